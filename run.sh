@@ -3,7 +3,11 @@
 # ------------------------------
 # Script to compile and run the Maze game (Linux/macOS)
 # Usage:
-#   ./run.sh
+#   ./run.sh [--cds] [--report] [game options...]
+#     --cds     Start faster: reuse a class data sharing (CDS) archive of the
+#               game's classes (created automatically on the first run)
+#     --report  Print how long each startup step took
+#     other options go to the game (e.g. --connect=localhost:5555)
 # Make executable first:
 #   chmod +x run.sh
 # Notes:
@@ -16,6 +20,19 @@ OS="$(uname -s)"
 # Set JavaFX SDK path
 JAVAFX_PATH="$HOME/javafx-sdk-25/lib"
 
+# Parse options
+JVM_OPTS=()
+GAME_ARGS=()
+for arg in "$@"; do
+    case "$arg" in
+        # -XX:+AutoCreateSharedArchive (JDK 19+) dumps the archive at exit when it
+        # is missing or out of date, and maps it at startup otherwise
+        --cds)    JVM_OPTS+=(-XX:+AutoCreateSharedArchive -XX:SharedArchiveFile=bin/maze.jsa) ;;
+        --report) JVM_OPTS+=(-Dmaze.startupReport=true) ;;
+        *)        GAME_ARGS+=("$arg") ;;
+    esac
+done
+
 echo "Detected OS: $OS"
 echo "Using JavaFX path: $JAVAFX_PATH"
 
@@ -24,17 +41,21 @@ javac --module-path "$JAVAFX_PATH" \
       --add-modules javafx.controls,javafx.fxml \
       -d bin src/application/*.java
 
+# Copy resources (stylesheet, images, word list) next to the classes
+cp src/application/style.css bin/application/
+cp -r src/assets bin/
+
 # Run the game
 if [[ "$OS" == "Linux" ]]; then
     # Force X11 backend
-    GDK_BACKEND=x11 java --enable-native-access=javafx.graphics \
+    GDK_BACKEND=x11 java "${JVM_OPTS[@]}" --enable-native-access=javafx.graphics \
          --module-path "$JAVAFX_PATH" \
          --add-modules javafx.controls,javafx.fxml \
-         -cp bin application.Main
+         -cp bin application.Main "${GAME_ARGS[@]}"
 else
     # macOS or others
-    java --enable-native-access=javafx.graphics \
+    java "${JVM_OPTS[@]}" --enable-native-access=javafx.graphics \
          --module-path "$JAVAFX_PATH" \
          --add-modules javafx.controls,javafx.fxml \
-         -cp bin application.Main
+         -cp bin application.Main "${GAME_ARGS[@]}"
 fi
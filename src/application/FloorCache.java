@@ -0,0 +1,181 @@
+package application;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * FloorCache Class - Keeps recently played floors so they are not rebuilt
+ *
+ * When the punishment system sends the player back to floor one, the floors of
+ * the run are needed again. Instead of generating them and recomputing their
+ * FloorData, we keep them here, keyed by (seed, floor).
+ *
+ * - LRU (least recently used): when the cache is over its size limit,
+ *   the floor unused for the longest time is dropped first
+ * - The limit is in bytes, not in number of floors: a floor with big
+ *   prerendered layers counts more than a bare one
+ * - Floors are held by SoftReferences: if the JVM runs low on memory, the
+ *   garbage collector may drop them even below the limit. They are rebuilt
+ *   on the next request, which is slower but always correct.
+ *
+ * All methods are synchronized, so floors can be prepared from a background thread
+ */
+public class FloorCache {
+
+    public static final long DEFAULT_MAX_BYTES = 32L * 1024 * 1024;
+
+    /**
+     * CLASS: Key - (seed, floor) pair used as map key
+     */
+    private static final class Key {
+        final long seed;
+        final int floor;
+
+        Key(long seed, int floor) {
+            this.seed = seed;
+            this.floor = floor;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Key)) return false;
+            Key key = (Key) other;
+            return seed == key.seed && floor == key.floor;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(seed) * 31 + floor;
+        }
+    }
+
+    /**
+     * CLASS: Entry - Soft reference to a floor, remembering its key and counted size
+     */
+    private static final class Entry extends SoftReference<FloorData> {
+        final Key key;
+        long bytes;
+
+        Entry(Key key, FloorData data, ReferenceQueue<FloorData> queue) {
+            super(data, queue);
+            this.key = key;
+            this.bytes = data.estimatedBytes();
+        }
+    }
+
+    private final long maxBytes;
+    // accessOrder = true: iteration goes from least to most recently used
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final ReferenceQueue<FloorData> cleared = new ReferenceQueue<>();
+    private long totalBytes;
+    private long hits, misses;
+
+    /**
+     * CONSTRUCTOR - Cache with the default size limit
+     */
+    public FloorCache() {
+        this(DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * CONSTRUCTOR - Cache with a size limit
+     *
+     * @param maxBytes - Approximate memory the cached floors may use
+     */
+    public FloorCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * METHOD: get() - Returns a floor, building it only if it is not cached
+     *
+     * @param seed - Run seed
+     * @param floor - Floor number
+     */
+    public synchronized FloorData get(long seed, int floor) {
+        removeCleared();
+
+        Key key = new Key(seed, floor);
+        Entry entry = entries.get(key);   // Also marks it as most recently used
+        FloorData data = entry == null ? null : entry.get();
+
+        if (data == null) {
+            // MISS - Not cached, or dropped by the garbage collector
+            misses++;
+            if (entry != null) remove(entry);
+            data = new FloorData(seed, floor, MazeGenerator.generate(seed, floor));
+            entry = new Entry(key, data, cleared);
+            entries.put(key, entry);
+            totalBytes += entry.bytes;
+        } else {
+            // HIT - Recount its size, layers may have been added since last time
+            hits++;
+            long bytes = data.estimatedBytes();
+            totalBytes += bytes - entry.bytes;
+            entry.bytes = bytes;
+        }
+
+        evict(entry);
+        return data;
+    }
+
+    /**
+     * METHOD: evict() - Drops least recently used floors until under the limit
+     *
+     * The floor just requested is never dropped, even if it alone is over the limit
+     */
+    private void evict(Entry keep) {
+        Iterator<Entry> eldestFirst = entries.values().iterator();
+        while (totalBytes > maxBytes && eldestFirst.hasNext()) {
+            Entry entry = eldestFirst.next();
+            if (entry == keep) continue;
+            eldestFirst.remove();
+            totalBytes -= entry.bytes;
+            entry.clear();
+        }
+    }
+
+    /**
+     * METHOD: removeCleared() - Forgets entries the garbage collector emptied
+     */
+    private void removeCleared() {
+        Reference<? extends FloorData> ref;
+        while ((ref = cleared.poll()) != null) {
+            Entry entry = (Entry) ref;
+            // remove(key, value) so a newer entry for the same key is kept,
+            // and without get() which would count as a use
+            if (entries.remove(entry.key, entry)) totalBytes -= entry.bytes;
+        }
+    }
+
+    private void remove(Entry entry) {
+        entries.remove(entry.key);
+        totalBytes -= entry.bytes;
+    }
+
+    /**
+     * METHOD: clear() - Drops every floor (for example when a new run starts)
+     */
+    public synchronized void clear() {
+        entries.clear();
+        totalBytes = 0;
+    }
+
+    // STATISTICS
+
+    public synchronized int size() {
+        removeCleared();
+        return entries.size();
+    }
+
+    public synchronized long getBytes() {
+        removeCleared();
+        return totalBytes;
+    }
+
+    public synchronized long getHits() { return hits; }
+    public synchronized long getMisses() { return misses; }
+}
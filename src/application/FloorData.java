@@ -0,0 +1,202 @@
+package application;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * FloorData Class - A generated floor plus everything computed from it
+ *
+ * Building a floor is not only generating the Maze: the boss AI also needs
+ * distance fields and a corridor graph, and the View may keep prerendered images.
+ * All of this depends only on (seed, floor), so it is computed once here
+ * and kept together in the FloorCache.
+ *
+ * CORRIDOR GRAPH
+ * - Nodes are the cells where a path choice happens: crossings, dead ends, start and goal
+ * - Edges are the corridors between two nodes, with their length in steps
+ * - Stored as flat arrays ("compressed sparse row"): the edges of node n are
+ *   the indexes getEdgeStart(n) to getEdgeEnd(n) - 1
+ */
+public class FloorData {
+
+    private static final int[] DX = { 0, 0, -1, 1 };
+    private static final int[] DY = { -1, 1, 0, 0 };
+
+    private final long seed;
+    private final int floor;
+    private final Maze maze;
+
+    // DISTANCE FIELDS - One value per cell (y * width + x), -1 for walls
+    private final int[] distanceToEnd;
+    private final int[] distanceFromStart;
+
+    // CORRIDOR GRAPH
+    private final int[] nodeOfCell;    // Node index of each cell, -1 if the cell is not a node
+    private final int[] nodeCells;     // Cell of each node
+    private final int[] edgeOffsets;   // Node n's edges: edgeOffsets[n] .. edgeOffsets[n + 1] - 1
+    private final int[] edgeTargets;   // Node at the other end of each edge
+    private final int[] edgeLengths;   // Steps along each edge
+
+    // PRERENDERED LAYERS - Added later by whoever draws the floor
+    private final Map<String, Object> layers = new HashMap<>();
+    private final Map<String, Long> layerSizes = new HashMap<>();
+    private long layerBytes;
+
+    /**
+     * CONSTRUCTOR - Computes all derived data of a floor
+     */
+    public FloorData(long seed, int floor, Maze maze) {
+        this.seed = seed;
+        this.floor = floor;
+        this.maze = maze;
+
+        int width = maze.getWidth(), height = maze.getHeight();
+        int[][] cells = new int[height][width];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                cells[y][x] = maze.getCellValue(x, y);
+            }
+        }
+        this.distanceToEnd = MazeGenerator.distances(cells, maze.getEndX(), maze.getEndY());
+        this.distanceFromStart = MazeGenerator.distances(cells, maze.getStartX(), maze.getStartY());
+
+        // FIND THE NODES
+        nodeOfCell = new int[width * height];
+        int nodeCount = 0;
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int cell = y * width + x;
+                nodeOfCell[cell] = -1;
+                if (cells[y][x] == Maze.WALL) continue;
+                if (openNeighbours(x, y) != 2 || cells[y][x] == Maze.START || cells[y][x] == Maze.END) {
+                    nodeOfCell[cell] = nodeCount++;
+                }
+            }
+        }
+        nodeCells = new int[nodeCount];
+        for (int cell = 0; cell < nodeOfCell.length; cell++) {
+            if (nodeOfCell[cell] >= 0) nodeCells[nodeOfCell[cell]] = cell;
+        }
+
+        // FOLLOW EACH CORRIDOR FROM EACH NODE
+        // Every node has at most 4 corridors, so 4 * nodeCount is enough room
+        edgeOffsets = new int[nodeCount + 1];
+        int[] targets = new int[4 * nodeCount];
+        int[] lengths = new int[4 * nodeCount];
+        int edgeCount = 0;
+        for (int n = 0; n < nodeCount; n++) {
+            edgeOffsets[n] = edgeCount;
+            int startX = nodeCells[n] % width, startY = nodeCells[n] / width;
+            for (int d = 0; d < 4; d++) {
+                int prevX = startX, prevY = startY;
+                int x = startX + DX[d], y = startY + DY[d];
+                if (!maze.isValidMove(x, y)) continue;
+                int length = 1;
+                while (nodeOfCell[y * width + x] < 0) {
+                    // Inside a corridor: exactly one way forward that is not back
+                    for (int k = 0; k < 4; k++) {
+                        int nx = x + DX[k], ny = y + DY[k];
+                        if ((nx != prevX || ny != prevY) && maze.isValidMove(nx, ny)) {
+                            prevX = x;
+                            prevY = y;
+                            x = nx;
+                            y = ny;
+                            break;
+                        }
+                    }
+                    length++;
+                }
+                targets[edgeCount] = nodeOfCell[y * width + x];
+                lengths[edgeCount] = length;
+                edgeCount++;
+            }
+        }
+        edgeOffsets[nodeCount] = edgeCount;
+        edgeTargets = Arrays.copyOf(targets, edgeCount);
+        edgeLengths = Arrays.copyOf(lengths, edgeCount);
+    }
+
+    private int openNeighbours(int x, int y) {
+        int count = 0;
+        for (int d = 0; d < 4; d++) {
+            if (maze.isValidMove(x + DX[d], y + DY[d])) count++;
+        }
+        return count;
+    }
+
+    // GETTERS
+
+    public long getSeed() { return seed; }
+    public int getFloor() { return floor; }
+    public Maze getMaze() { return maze; }
+
+    /**
+     * METHOD: getDistanceToEnd() - Steps from a cell to the goal, -1 for a wall
+     */
+    public int getDistanceToEnd(int x, int y) {
+        return distanceToEnd[y * maze.getWidth() + x];
+    }
+
+    /**
+     * METHOD: getDistanceFromStart() - Steps from the start to a cell, -1 for a wall
+     */
+    public int getDistanceFromStart(int x, int y) {
+        return distanceFromStart[y * maze.getWidth() + x];
+    }
+
+    public int getNodeCount() { return nodeCells.length; }
+    public int getNodeX(int node) { return nodeCells[node] % maze.getWidth(); }
+    public int getNodeY(int node) { return nodeCells[node] / maze.getWidth(); }
+
+    /**
+     * METHOD: getNodeAt() - Node index of a cell, or -1 if the cell is inside a corridor
+     */
+    public int getNodeAt(int x, int y) {
+        return nodeOfCell[y * maze.getWidth() + x];
+    }
+
+    public int getEdgeStart(int node) { return edgeOffsets[node]; }
+    public int getEdgeEnd(int node) { return edgeOffsets[node + 1]; }
+    public int getEdgeTarget(int edge) { return edgeTargets[edge]; }
+    public int getEdgeLength(int edge) { return edgeLengths[edge]; }
+
+    // PRERENDERED LAYERS
+
+    /**
+     * METHOD: putLayer() - Keeps a prerendered layer (for example a wall image)
+     *
+     * @param name - Layer name, replaces a layer with the same name
+     * @param layer - The object to keep
+     * @param bytes - Approximate memory used (width * height * 4 for an image)
+     *
+     * The FloorCache takes the new size into account the next time the floor is requested
+     */
+    public synchronized void putLayer(String name, Object layer, long bytes) {
+        layers.put(name, layer);
+        Long old = layerSizes.put(name, bytes);
+        layerBytes += bytes - (old == null ? 0 : old);
+    }
+
+    /**
+     * METHOD: getLayer() - A layer added with putLayer(), or null
+     */
+    public synchronized Object getLayer(String name) {
+        return layers.get(name);
+    }
+
+    /**
+     * METHOD: estimatedBytes() - Approximate memory used by this floor
+     *
+     * Counts the arrays (4 bytes per int, plus about 16 bytes of header each)
+     * and the declared size of the layers
+     */
+    public synchronized long estimatedBytes() {
+        long cells = (long) maze.getWidth() * maze.getHeight();
+        long mazeBytes = cells * 4 + maze.getHeight() * 16L;
+        long fields = 3 * (cells * 4 + 16);                  // Two distance fields + nodeOfCell
+        long graph = 4L * (nodeCells.length + edgeOffsets.length
+                           + edgeTargets.length + edgeLengths.length) + 4 * 16;
+        return mazeBytes + fields + graph + layerBytes + 128;
+    }
+}
@@ -0,0 +1,130 @@
+package application;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * GameAssets Class - Loads everything the game needs, in the background
+ *
+ * Nothing here touches the screen, so it can all run off the JavaFX thread
+ * while the splash screen is displayed:
+ * - the level (GameModel), or the connection to a multiplayer server
+ * - the leaderboard file
+ * - mini-game data (word list, Sudoku pool), which is only needed later in the
+ *   elevator, so the game does not wait for it
+ *
+ * Each item is loaded on its own thread, in parallel
+ */
+public class GameAssets {
+
+    private final CompletableFuture<GameModel> model;
+    private final CompletableFuture<GameClient> client;
+    private final CompletableFuture<Leaderboard> leaderboard;
+    private final CompletableFuture<WordDictionary> words;
+    private final CompletableFuture<SudokuPool> sudokuPool;
+
+    /**
+     * METHOD: loadAsync() - Starts loading everything and returns right away
+     *
+     * @param options - Named command line options (--connect=host:port, --session=id)
+     * @param report - Where the time of each step is recorded
+     */
+    public static GameAssets loadAsync(Map<String, String> options, StartupReport report) {
+        return new GameAssets(options, report);
+    }
+
+    private GameAssets(Map<String, String> options, StartupReport report) {
+        ExecutorService loaders = Executors.newFixedThreadPool(4, task -> {
+            Thread thread = new Thread(task, "asset-loader");
+            thread.setDaemon(true);   // Never keeps the game alive after the window closes
+            return thread;
+        });
+
+        // MULTIPLAYER OR LOCAL GAME
+        String connect = options.get("connect");
+        if (connect != null) {
+            client = CompletableFuture.supplyAsync(() -> connect(connect, options, report), loaders);
+        } else {
+            client = CompletableFuture.completedFuture(null);
+        }
+        model = client.thenApplyAsync(c -> c != null ? c.getModel()
+                : step(report, "Level built", GameModel::new), loaders);
+        // Local games only, including a local game started because the server was unreachable
+        leaderboard = client.thenApplyAsync(c -> c != null ? null
+                : step(report, "Leaderboard loaded", Leaderboard::tryOpenDefault), loaders);
+
+        // MINI-GAME DATA - Ready long before the first elevator ride
+        words = CompletableFuture.supplyAsync(() -> step(report, "Word list indexed", WordDictionary::load), loaders);
+        sudokuPool = CompletableFuture.supplyAsync(
+                () -> step(report, "Sudoku pool started", () -> new SudokuPool(SudokuGenerator.Difficulty.MEDIUM)), loaders);
+
+        // Level tasks are only submitted once the connection attempt ends, so the
+        // pool may only stop when everything is loaded (a stopped pool rejects new tasks)
+        CompletableFuture.allOf(model, leaderboard, words, sudokuPool)
+                .whenComplete((ignored, error) -> loaders.shutdown());
+    }
+
+    /** @return The connected client, or null (bad option or no server) for a local game */
+    private static GameClient connect(String connect, Map<String, String> options, StartupReport report) {
+        try {
+            String[] hostPort = connect.split(":");
+            String host = hostPort[0];
+            int port = hostPort.length > 1 ? Integer.parseInt(hostPort[1]) : GameServer.DEFAULT_PORT;
+            int session = Integer.parseInt(options.getOrDefault("session", "1"));
+            return report.time("Connected to server", () -> new GameClient(host, port, session));
+        } catch (Exception e) {
+            System.out.println("Could not connect to " + connect + " (" + e.getMessage() + "), starting a local game");
+            return null;
+        }
+    }
+
+    private static <T> T step(StartupReport report, String name, Callable<T> work) {
+        try {
+            return report.time(name, work);
+        } catch (Exception e) {
+            throw new IllegalStateException(name + " failed", e);
+        }
+    }
+
+    /**
+     * METHOD: whenReady() - Runs an action once the game itself can start
+     *
+     * Only waits for the level and the leaderboard, not for the mini-game data.
+     * The action runs on a loader thread: use Platform.runLater() to touch the UI.
+     */
+    public void whenReady(Runnable action) {
+        CompletableFuture.allOf(model, leaderboard).whenComplete((ignored, error) -> {
+            if (error != null) System.out.println("Loading failed: " + error.getMessage());
+            action.run();
+        });
+    }
+
+    /**
+     * METHOD: createController() - Builds the game view from the loaded parts
+     *
+     * Must be called on the JavaFX thread, after whenReady()
+     */
+    public GameController createController() {
+        GameClient connected = client.isDone() && !client.isCompletedExceptionally() ? client.join() : null;
+        if (connected != null) return new GameController(connected);
+        GameModel loaded = model.isCompletedExceptionally() ? new GameModel() : model.join();
+        return new GameController(loaded, leaderboard.isCompletedExceptionally() ? null : leaderboard.join());
+    }
+
+    /**
+     * METHOD: getWords() - Mini Wordle dictionary (may still be loading)
+     */
+    public CompletableFuture<WordDictionary> getWords() {
+        return words;
+    }
+
+    /**
+     * METHOD: getSudokuPool() - Mini Sudoku puzzle pool (may still be starting)
+     */
+    public CompletableFuture<SudokuPool> getSudokuPool() {
+        return sudokuPool;
+    }
+}
@@ -0,0 +1,137 @@
+package application;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+
+/**
+ * GameClient Class - Connects a game window to a GameServer session
+ *
+ * The client never moves players itself:
+ * - sendMove() only tells the server which Direction the player pressed
+ * - poll() reads whatever the server sent and copies it into a local GameModel
+ *
+ * Both methods are non-blocking, so the Controller can call poll() every frame
+ * on the JavaFX thread without ever freezing the window.
+ */
+public class GameClient implements AutoCloseable {
+
+    private final SocketChannel channel;
+    private final ByteBuffer in = ByteBuffer.allocate(64 * 1024);
+    private ByteBuffer out = ByteBuffer.allocate(256);
+    private final GameModel model = new GameModel();  // Mirror of the server's model
+    private int playerId = -1;                          // Known after the server's WELCOME
+
+    /**
+     * CONSTRUCTOR - Connects and asks to join a session
+     *
+     * @param host - Server address ("localhost" for a server on the same machine)
+     * @param port - Server port
+     * @param sessionId - Players with the same session id share the same maze
+     */
+    public GameClient(String host, int port, int sessionId) throws IOException {
+        // Connecting is the only blocking step, everything after it is non-blocking
+        this.channel = SocketChannel.open(new InetSocketAddress(host, port));
+        channel.socket().setTcpNoDelay(true);
+        channel.configureBlocking(false);
+
+        ByteBuffer join = ByteBuffer.allocate(7);
+        join.putShort((short) 5).put(GameServer.JOIN).putInt(sessionId).flip();
+        queue(join);
+    }
+
+    /**
+     * METHOD: sendMove() - Asks the server to move our player
+     */
+    public void sendMove(GameModel.Direction dir) throws IOException {
+        ByteBuffer input = ByteBuffer.allocate(4);
+        input.putShort((short) 2).put(GameServer.INPUT).put((byte) dir.ordinal()).flip();
+        queue(input);
+    }
+
+    /**
+     * METHOD: poll() - Applies every message received since the last call
+     *
+     * @return true if something changed and the view should be redrawn
+     * @throws IOException if the server closed the connection
+     */
+    public boolean poll() throws IOException {
+        flush();
+        int read = channel.read(in);
+        if (read < 0) throw new IOException("Server closed the connection");
+
+        boolean changed = false;
+        in.flip();
+        while (in.remaining() >= 2) {
+            int length = in.getShort(in.position()) & 0xFFFF;
+            if (in.remaining() < 2 + length) break;  // Rest of the frame not here yet
+            in.getShort();
+            int end = in.position() + length;
+            byte type = in.get();
+            if (type == GameServer.WELCOME) {
+                playerId = in.getInt();
+            } else if (type == GameServer.STATE) {
+                applyState(in);
+            }
+            in.position(end);
+            changed = true;
+        }
+        in.compact();
+        return changed;
+    }
+
+    private void applyState(ByteBuffer frame) {
+        frame.getInt();                    // Tick number (unused for now)
+        int winner = frame.getShort();     // Player id, -1 = nobody yet
+        int count = frame.getShort();
+        for (int i = 0; i < count; i++) {
+            int id = frame.getShort();
+            int x = frame.getShort();
+            int y = frame.getShort();
+            int moves = frame.getInt();
+            model.syncPlayer(id, x, y, moves);
+        }
+        model.syncWinner(winner);
+    }
+
+    private void queue(ByteBuffer frame) throws IOException {
+        if (out.remaining() < frame.remaining()) {
+            // Server is not reading fast enough - keep the bytes in a bigger buffer
+            ByteBuffer bigger = ByteBuffer.allocate(out.capacity() * 2 + frame.remaining());
+            out.flip();
+            bigger.put(out);
+            out = bigger;
+        }
+        out.put(frame);
+        flush();
+    }
+
+    private void flush() throws IOException {
+        out.flip();
+        channel.write(out);
+        out.compact();
+    }
+
+    /**
+     * METHOD: getModel() - The local copy of the shared game, for the View
+     */
+    public GameModel getModel() {
+        return model;
+    }
+
+    /**
+     * METHOD: getPlayerId() - Our player in the session, or -1 before joining
+     */
+    public int getPlayerId() {
+        return playerId;
+    }
+
+    /**
+     * METHOD: close() - Leaves the session
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
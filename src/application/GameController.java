@@ -1,5 +1,8 @@
 package application;
 
+import java.io.IOException;
+
+import javafx.animation.AnimationTimer;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Priority;
@@ -23,9 +26,11 @@ public class GameController extends VBox {
     // MVC COMPONENTS
     private GameModel model;  // The game logic and state
     private MazeView view;    // The visual display
+    private GameClient client;  // Connection to a GameServer, null for a local game
+    private Leaderboard leaderboard;  // Saved best runs, null if it could not be opened
     
     /**
-     * CONSTRUCTOR - Sets up the game components and connects them
+     * CONSTRUCTOR - Sets up a local game
      * 
      * Constructor does four main things:
      * 1. Create the Model (game logic)
@@ -34,9 +39,40 @@ public class GameController extends VBox {
      * 4. Show the initial game state
      */
     public GameController() {
+        this(new GameModel(), null, Leaderboard.tryOpenDefault());
+    }
+    
+    /**
+     * CONSTRUCTOR - Sets up a local game from parts loaded in advance
+     * 
+     * @param model - The level to play
+     * @param leaderboard - Saved best runs, or null to not save anything
+     * 
+     * Used at startup: GameAssets prepares these in the background,
+     * so building the view is the only work left for the JavaFX thread
+     */
+    public GameController(GameModel model, Leaderboard leaderboard) {
+        this(model, null, leaderboard);
+    }
+    
+    /**
+     * CONSTRUCTOR - Sets up a multiplayer game
+     * 
+     * @param client - Connection to the session to play in
+     * 
+     * The server owns the game: key presses are sent to it,
+     * and the model shown is the client's copy of the server's model
+     */
+    public GameController(GameClient client) {
+        this(client.getModel(), client, null);
+    }
+    
+    private GameController(GameModel model, GameClient client, Leaderboard leaderboard) {
         
         // CREATE MODEL AND VIEW
-        model = new GameModel();        // Create game logic
+        this.model = model;             // Game logic (local, or mirrored from the server)
+        this.client = client;
+        this.leaderboard = leaderboard;   // Only local games are saved
         view = new MazeView(30, 30);    // Create visual display (10x10 cells)
         
         Region spacer = new Region(); 
@@ -65,10 +101,32 @@ public class GameController extends VBox {
         // In JavaFX, only the component with "focus" receives keyboard input
         this.setFocusTraversable(true);
         
+        // SHOW THE LEVEL RECORD
+        if (leaderboard != null) {
+            view.setBestMoves(leaderboard.best(model.getMaze().getLevelId()));
+        }
+        
         // INITIAL RENDER
         // Show the game state when it first loads
         view.render(model);
         
+        // NETWORK UPDATES
+        // AnimationTimer runs once per frame on the JavaFX thread
+        // poll() never blocks, so reading the server here is safe
+        if (client != null) {
+            new AnimationTimer() {
+                @Override
+                public void handle(long now) {
+                    try {
+                        if (client.poll()) view.render(model, client.getPlayerId());
+                    } catch (IOException e) {
+                        System.out.println("Disconnected from server: " + e.getMessage());
+                        stop();
+                    }
+                }
+            }.start();
+        }
+        
         // The constructor establishes the MVC connections:
         // User presses key → Controller receives event → Controller updates Model → Controller tells View to refresh
     }
@@ -109,7 +167,9 @@ public class GameController extends VBox {
             
             // SPECIAL COMMAND - Reset game
             case R:
+                if (client != null) return;  // The server starts a new round by itself after a win
                 model.resetGame();    // Tell model to reset
+                view.setNewRecord(false);
                 view.render(model);   // Tell view to redraw
                 return;               
         }
@@ -118,8 +178,18 @@ public class GameController extends VBox {
         // Controller coordinates Model-View interaction
         // 1. Tell Model to update state
         // 2. Tell View to redraw based on new state
+        if (dir != null && client != null) {
+            // MULTIPLAYER - The server moves the player, we redraw when its answer arrives
+            try {
+                client.sendMove(dir);
+            } catch (IOException e) {
+                System.out.println("Could not send move: " + e.getMessage());
+            }
+            return;
+        }
         if (dir != null) {  // If user pressed a movement key
-            model.movePlayer(dir);  // Tell model to try moving player
+            boolean moved = model.movePlayer(dir);  // Tell model to try moving player
+            if (moved && model.isGameWon()) saveResult();  // Only the winning move, not keys pressed after it
             view.render(model);     // Tell view to redraw with new state
             
             // The Controller doesn't care if the move succeeded or failed
@@ -135,6 +205,21 @@ public class GameController extends VBox {
         // The Controller doesn't contain game logic or drawing code - it just coordinates
     }
     
+    /**
+     * METHOD: saveResult() - Records the finished run in the leaderboard
+     */
+    private void saveResult() {
+        if (leaderboard == null) return;
+        long levelId = model.getMaze().getLevelId();
+        try {
+            int rank = leaderboard.record(levelId, model.getPlayer().getMoves());
+            view.setNewRecord(rank == 1);
+        } catch (IOException e) {
+            System.out.println("Could not save result: " + e.getMessage());
+        }
+        view.setBestMoves(leaderboard.best(levelId));
+    }
+    
     /**
      * METHOD: requestGameFocus() - Ensures controller has keyboard focus
      * 
@@ -1,5 +1,8 @@
 package application;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * GameModel Class - Manages the overall game state and logic
  * 
@@ -27,7 +30,9 @@ public class GameModel {
     // GAME COMPONENTS - The objects that make up our game
 	private Maze maze;        // The maze layout and rules
 	private Player player;    // The player's position and statistics  
+	private List<Player> players = new ArrayList<>();  // All players, index = player id (0 = player)
 	private boolean gameWon;  // Whether the player has reached the goal
+	private int winner = -1;  // Id of the player who reached the goal first (-1 = nobody yet)
 	
     /**
      * CONSTRUCTOR - Sets up a new game
@@ -38,11 +43,21 @@ public class GameModel {
      * - Initializes game state
      */
 	public GameModel() {
-		this.maze = new Maze();  // Create the maze
+		this(new Maze());  // Create the maze
+	}
+	
+    /**
+     * CONSTRUCTOR - Sets up a new game on a given maze
+     * 
+     * @param maze - For example a floor taken from the FloorCache
+     */
+	public GameModel(Maze maze) {
+		this.maze = maze;
         
         // Create player at maze's starting position
         // We get the start position from the maze
 		this.player = new Player(maze.getStartX(), maze.getStartY());
+		players.add(player);
         
 		this.gameWon = false;    // Game starts in "not won" state
 	}
@@ -66,9 +81,22 @@ public class GameModel {
      * - Win condition checking
      */
 	public boolean movePlayer(Direction dir) {
+		return movePlayer(0, dir);
+	}
+	
+    /**
+     * METHOD: movePlayer() - Same as above, for one player of a multiplayer session
+     * 
+     * @param id - The player to move (0 is the first player)
+     * @param dir - The direction the player wants to move
+     * @return true if the move was successful, false if it was blocked
+     */
+	public boolean movePlayer(int id, Direction dir) {
         // If game is already won, don't allow more moves
 		if(gameWon) return false;
 		
+		Player player = players.get(id);
+		
         // CALCULATE NEW POSITION
         // Start with current position, then modify based on direction
 		int newX = player.getX();  // Current x position
@@ -98,6 +126,7 @@ public class GameModel {
             // Ask the maze if this new position is the goal
 			if(maze.isEnd(newX, newY)) {
 				gameWon = true;  // Player has won the game!
+				winner = id;
 			}
             
 			return true;  // Move was successful
@@ -119,11 +148,14 @@ public class GameModel {
      * This is more efficient than recreating the entire game
      */
 	public void resetGame() {
-        // Reset player to starting position and zero moves
-		player.reset(maze.getStartX(), maze.getStartY());
+        // Reset every player to starting position and zero moves
+		for (int id = 0; id < players.size(); id++) {
+			if (isPlayerActive(id)) players.get(id).reset(maze.getStartX(), maze.getStartY());
+		}
         
         // Reset game state
 		gameWon = false;
+		winner = -1;
         
         // We don't need to reset the maze because it never changes
         // Only the player position and game state need to be reset
@@ -153,6 +185,91 @@ public class GameModel {
         return player; 
     }
     
+    /**
+     * METHOD: addPlayer() - Adds another player at the start position
+     * @return The new player's id
+     * 
+     * Used by the multiplayer server when someone joins a session
+     */
+	public int addPlayer() {
+        // Reuse the id of a player who left, so sessions do not keep growing
+		for (int id = 0; id < players.size(); id++) {
+			if (!isPlayerActive(id)) {
+				players.get(id).reset(maze.getStartX(), maze.getStartY());
+				return id;
+			}
+		}
+		players.add(new Player(maze.getStartX(), maze.getStartY()));
+		return players.size() - 1;
+	}
+	
+    /**
+     * METHOD: removePlayer() - Takes a player off the board
+     * 
+     * Used by the multiplayer server when someone leaves a session.
+     * The player is moved to (-1, -1), which clients know means "gone",
+     * and its id is given to the next player who joins.
+     * If that player had won, the win is forgotten: the next player with
+     * this id must not inherit it
+     */
+	public void removePlayer(int id) {
+		players.get(id).restore(-1, -1, 0);
+		if (winner == id) {
+			winner = -1;
+			gameWon = false;
+		}
+	}
+	
+    /**
+     * METHOD: isPlayerActive() - False for a player who left the session
+     */
+	public boolean isPlayerActive(int id) {
+		return players.get(id).getX() >= 0;
+	}
+	
+    /**
+     * METHOD: getPlayer() - Returns one player of a multiplayer session
+     * @param id - Player id (0 is the first player)
+     */
+	public Player getPlayer(int id) {
+		return players.get(id);
+	}
+	
+    /**
+     * METHOD: getPlayerCount() - Number of players in this game
+     */
+	public int getPlayerCount() {
+		return players.size();
+	}
+	
+    /**
+     * METHOD: getWinner() - Id of the player who reached the goal, or -1
+     */
+	public int getWinner() {
+		return winner;
+	}
+	
+    /**
+     * METHOD: syncPlayer() - Copies a player's state received from the server
+     * 
+     * Only used by GameClient: on a client the server decides the moves,
+     * so the local model just mirrors what it receives
+     */
+	public void syncPlayer(int id, int x, int y, int moves) {
+		while (players.size() <= id) {
+			players.add(new Player(maze.getStartX(), maze.getStartY()));
+		}
+		players.get(id).restore(x, y, moves);
+	}
+	
+    /**
+     * METHOD: syncWinner() - Copies the game result received from the server
+     */
+	public void syncWinner(int winner) {
+		this.winner = winner;
+		this.gameWon = winner >= 0;
+	}
+	
     /**
      * METHOD: isGameWon() - Returns whether the game has been won
      * @return true if player reached the goal, false otherwise
@@ -0,0 +1,442 @@
+package application;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GameServer Class - Runs shared mazes for co-op and versus games
+ *
+ * The server is the only one allowed to change the game state ("authoritative"):
+ * - Each session owns one GameModel, and every client in it is one player
+ * - Clients only send the Direction they want to move
+ * - Every tick the server applies at most one move per player, then sends each
+ *   client only the players whose position changed since the last tick (a "delta")
+ * - A few seconds after someone reaches the goal, everybody goes back to the
+ *   start for a new round
+ *
+ * All sessions and sockets are handled by ONE thread with a NIO Selector,
+ * so hundreds of sessions do not need hundreds of threads.
+ *
+ * PROTOCOL - Every frame is [short length][byte type][payload]
+ * - Client to server: JOIN (int session id), INPUT (byte direction ordinal)
+ * - Server to client: WELCOME (int player id),
+ *   STATE (int tick, short winner, short count, count x [short id, short x, short y, int moves]),
+ *   where x = y = -1 means the player left the session
+ */
+public class GameServer implements AutoCloseable {
+
+    // MESSAGE TYPES
+    static final byte JOIN = 1;
+    static final byte INPUT = 2;
+    static final byte WELCOME = 1;
+    static final byte STATE = 2;
+
+    // LIMITS
+    static final int MAX_FRAME = 4096;                    // Bigger frames mean a broken client
+    static final int MAX_PLAYERS = 64;                    // Per session, later JOINs are refused
+    private static final int MAX_QUEUED_INPUTS = 8;        // Extra key presses are dropped
+    private static final int MAX_PENDING_OUTPUT = 64 * 1024;  // Slower clients are disconnected
+
+    public static final int DEFAULT_PORT = 5555;
+    public static final int DEFAULT_TICK_MILLIS = 50;      // 20 ticks per second
+    static final int NEW_ROUND_MILLIS = 3000;              // Pause between a win and the next round
+
+    private final int tickMillis;
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+    private final SelectionKey serverKey;
+    private final Map<Integer, Session> sessions = new HashMap<>();
+    private Thread loopThread;
+    private volatile boolean running;
+    private long tick;
+
+    /**
+     * CONSTRUCTOR - Opens the listening socket
+     *
+     * @param port - TCP port, 0 = any free port (see getPort(), handy for tests)
+     * @param tickMillis - Time between two game updates
+     */
+    public GameServer(int port, int tickMillis) throws IOException {
+        this.tickMillis = tickMillis;
+        this.selector = Selector.open();
+        this.serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(port));
+        serverChannel.configureBlocking(false);
+        this.serverKey = serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+    }
+
+    /**
+     * METHOD: main() - Runs a standalone server
+     *
+     * Usage: java -cp bin application.GameServer [port]
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        GameServer server = new GameServer(port, DEFAULT_TICK_MILLIS);
+        System.out.println("Game server listening on port " + server.getPort());
+        server.run();
+    }
+
+    /**
+     * METHOD: start() - Runs the server loop on its own background thread
+     */
+    public void start() {
+        loopThread = new Thread(this::run, "game-server");
+        loopThread.setDaemon(true);
+        loopThread.start();
+    }
+
+    /**
+     * METHOD: getPort() - Port the server is listening on
+     */
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    /**
+     * METHOD: getSessionCount() - Number of sessions with at least one player
+     *
+     * Only exact when read from the server thread or after close()
+     */
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * METHOD: close() - Stops the loop and disconnects everybody
+     */
+    @Override
+    public void close() throws IOException {
+        running = false;
+        selector.wakeup();
+        if (loopThread != null && loopThread != Thread.currentThread()) {
+            try {
+                loopThread.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        for (SelectionKey key : selector.keys()) {
+            key.channel().close();
+        }
+        selector.close();
+    }
+
+    // SERVER LOOP
+
+    /**
+     * METHOD: run() - The selector loop
+     *
+     * Waits for network events until the next tick is due, then updates every session.
+     * Runs on the calling thread until close() is called.
+     */
+    public void run() {
+        running = true;
+        long nextTick = System.nanoTime();
+        try {
+            while (running) {
+                long waitMillis = (nextTick - System.nanoTime()) / 1_000_000;
+                if (waitMillis > 0) {
+                    selector.select(waitMillis);
+                } else {
+                    selector.selectNow();
+                }
+                if (!running) break;
+
+                // HANDLE NETWORK EVENTS
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    handle(key);
+                }
+
+                // FIXED TICK - Catch up if the loop fell behind
+                while (System.nanoTime() - nextTick >= 0) {
+                    tick++;
+                    serverKey.interestOps(SelectionKey.OP_ACCEPT);   // In case accept() paused it
+                    for (Session session : sessions.values()) {
+                        session.update(tick);
+                    }
+                    // Forget sessions everybody left (not during the loop above)
+                    sessions.values().removeIf(session -> session.connections.isEmpty());
+                    nextTick += tickMillis * 1_000_000L;
+                }
+            }
+        } catch (IOException e) {
+            if (running) System.out.println("Game server stopped: " + e.getMessage());
+        }
+    }
+
+    private void handle(SelectionKey key) {
+        if (!key.isValid()) return;
+        if (key.isAcceptable()) {
+            accept();
+            return;
+        }
+        Connection connection = (Connection) key.attachment();
+        try {
+            if (key.isReadable()) connection.read();
+            if (key.isValid() && key.isWritable()) connection.flush();
+        } catch (IOException | RuntimeException e) {
+            // Broken or misbehaving client - drop it, the others keep playing
+            connection.disconnect();
+        }
+    }
+
+    /**
+     * METHOD: accept() - Sets up a new client socket
+     *
+     * A failure here only concerns that one client (it reset its connection, or the
+     * process ran out of file handles): its socket is closed, and the listening socket
+     * stays registered so the next clients can still connect
+     */
+    private void accept() {
+        SocketChannel channel = null;
+        try {
+            channel = serverChannel.accept();
+            if (channel == null) return;
+            channel.configureBlocking(false);
+            channel.socket().setTcpNoDelay(true);
+            SelectionKey clientKey = channel.register(selector, SelectionKey.OP_READ);
+            clientKey.attach(new Connection(clientKey));
+        } catch (IOException | RuntimeException e) {
+            System.out.println("Could not accept a client: " + e.getMessage());
+            if (channel == null) {
+                // accept() itself failed: the client is still waiting, so the selector would
+                // wake us up again at once. Stop listening until the next tick instead of spinning
+                serverKey.interestOps(0);
+            } else {
+                try {
+                    channel.close();   // Also cancels its key if it was registered
+                } catch (IOException ignored) {
+                    // Already closed
+                }
+            }
+        }
+    }
+
+    // SESSION - One shared game and the players in it
+
+    private final class Session {
+        private final GameModel model = new GameModel();
+        private final List<Connection> connections = new ArrayList<>();
+        private int[] sentX = new int[0];   // Last positions sent to clients, per player
+        private int[] sentY = new int[0];
+        private int sentWinner = -1;
+        private long wonAtTick = -1;        // Tick of the last win, -1 while a round is running
+
+        Session() {
+            // The model starts with player 0 on the board - free it for the first client
+            model.removePlayer(0);
+        }
+
+        int join(Connection connection) throws IOException {
+            if (connections.size() >= MAX_PLAYERS) {
+                throw new IOException("Session full");   // Drops the client, the session keeps playing
+            }
+            int playerId = model.addPlayer();   // Reuses the id of a player who left
+            connections.add(connection);
+            if (sentX.length < model.getPlayerCount()) {
+                sentX = growTo(sentX, model.getPlayerCount());
+                sentY = growTo(sentY, model.getPlayerCount());
+            }
+            return playerId;
+        }
+
+        void leave(Connection connection) {
+            connections.remove(connection);
+            // Moves the player to (-1, -1): the next delta tells the others it is gone
+            model.removePlayer(connection.playerId);
+        }
+
+        void update(long tick) {
+            // APPLY INPUTS - At most one move per player per tick
+            for (Connection c : connections) {
+                GameModel.Direction dir = c.inputs.poll();
+                if (dir != null) model.movePlayer(c.playerId, dir);
+            }
+
+            // NEW ROUND - Leave time to see who won, then everybody restarts
+            if (!model.isGameWon()) {
+                wonAtTick = -1;   // Also when the winner left before the round ended
+            } else if (wonAtTick < 0) {
+                wonAtTick = tick;
+            } else if ((tick - wonAtTick) * tickMillis >= NEW_ROUND_MILLIS) {
+                model.resetGame();
+                wonAtTick = -1;
+                // Move counts went back to 0 even for players already on the start cell,
+                // so send every player again
+                Arrays.fill(sentX, Integer.MIN_VALUE);
+            }
+
+            // BUILD THE DELTA - Only players that moved since the last tick
+            int count = model.getPlayerCount();
+            ByteBuffer delta = ByteBuffer.allocate(2 + 9 + 10 * count);
+            delta.position(2);
+            delta.put(STATE).putInt((int) tick).putShort((short) model.getWinner());
+            int countPosition = delta.position();
+            delta.putShort((short) 0);
+            int changed = 0;
+            for (int p = 0; p < count; p++) {
+                Player player = model.getPlayer(p);
+                if (player.getX() != sentX[p] || player.getY() != sentY[p]) {
+                    putPlayer(delta, p, player);
+                    sentX[p] = player.getX();
+                    sentY[p] = player.getY();
+                    changed++;
+                }
+            }
+            if (changed == 0 && model.getWinner() == sentWinner) return;  // Nothing new to say
+            sentWinner = model.getWinner();
+            delta.putShort(countPosition, (short) changed);
+            delta.putShort(0, (short) (delta.position() - 2));
+            delta.flip();
+            for (Connection c : new ArrayList<>(connections)) {
+                c.send(delta.duplicate());
+            }
+        }
+
+        ByteBuffer snapshot() {
+            // FULL STATE - Sent once to a client that just joined
+            int count = model.getPlayerCount();
+            ByteBuffer full = ByteBuffer.allocate(2 + 9 + 10 * count);
+            full.putShort((short) (9 + 10 * count));
+            full.put(STATE).putInt((int) tick).putShort((short) model.getWinner()).putShort((short) count);
+            for (int p = 0; p < count; p++) {
+                putPlayer(full, p, model.getPlayer(p));
+            }
+            full.flip();
+            return full;
+        }
+    }
+
+    private static void putPlayer(ByteBuffer buffer, int id, Player player) {
+        buffer.putShort((short) id)
+              .putShort((short) player.getX())
+              .putShort((short) player.getY())
+              .putInt(player.getMoves());
+    }
+
+    private static int[] growTo(int[] array, int length) {
+        int[] bigger = new int[length];
+        System.arraycopy(array, 0, bigger, 0, array.length);
+        for (int i = array.length; i < length; i++) bigger[i] = -1;  // Never sent yet
+        return bigger;
+    }
+
+    // CONNECTION - One client socket and its buffers
+
+    private final class Connection {
+        private final SelectionKey key;
+        private final SocketChannel channel;
+        private final ByteBuffer in = ByteBuffer.allocate(MAX_FRAME);
+        private final ArrayDeque<ByteBuffer> out = new ArrayDeque<>();
+        private final ArrayDeque<GameModel.Direction> inputs = new ArrayDeque<>();
+        private int pendingBytes;
+        private Session session;
+        private int playerId = -1;
+
+        Connection(SelectionKey key) {
+            this.key = key;
+            this.channel = (SocketChannel) key.channel();
+        }
+
+        void read() throws IOException {
+            if (channel.read(in) < 0) {
+                disconnect();
+                return;
+            }
+            in.flip();
+            while (in.remaining() >= 2) {
+                int length = in.getShort(in.position()) & 0xFFFF;
+                if (length == 0 || length > MAX_FRAME - 2) {
+                    throw new IOException("Bad frame length " + length);
+                }
+                if (in.remaining() < 2 + length) break;  // Wait for the rest of the frame
+                in.getShort();
+                int end = in.position() + length;
+                onFrame(in.get(), in);
+                in.position(end);
+            }
+            in.compact();
+        }
+
+        private void onFrame(byte type, ByteBuffer frame) throws IOException {
+            if (type == JOIN && session == null) {
+                int sessionId = frame.getInt();
+                Session joined = sessions.computeIfAbsent(sessionId, id -> new Session());
+                playerId = joined.join(this);
+                session = joined;   // Only once joined, so a refused client never "leaves"
+                ByteBuffer welcome = ByteBuffer.allocate(7);
+                welcome.putShort((short) 5).put(WELCOME).putInt(playerId).flip();
+                send(welcome);
+                send(session.snapshot());
+            } else if (type == INPUT && session != null) {
+                int ordinal = frame.get();
+                GameModel.Direction[] values = GameModel.Direction.values();
+                if (ordinal < 0 || ordinal >= values.length) {
+                    throw new IOException("Bad direction " + ordinal);
+                }
+                if (inputs.size() < MAX_QUEUED_INPUTS) inputs.add(values[ordinal]);
+            } else {
+                throw new IOException("Unexpected message " + type);
+            }
+        }
+
+        void send(ByteBuffer frame) {
+            if (!key.isValid()) return;
+            pendingBytes += frame.remaining();
+            if (pendingBytes > MAX_PENDING_OUTPUT) {
+                disconnect();
+                return;
+            }
+            out.add(frame);
+            try {
+                flush();
+            } catch (IOException e) {
+                disconnect();
+            }
+        }
+
+        void flush() throws IOException {
+            while (!out.isEmpty()) {
+                ByteBuffer head = out.peek();
+                int written = channel.write(head);
+                pendingBytes -= written;
+                if (head.hasRemaining()) {
+                    // Socket buffer full - ask the selector to tell us when we can write again
+                    key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+                    return;
+                }
+                out.poll();
+            }
+            key.interestOps(SelectionKey.OP_READ);
+        }
+
+        void disconnect() {
+            key.cancel();
+            try {
+                channel.close();
+            } catch (IOException e) {
+                // Already closed
+            }
+            if (session != null) {
+                session.leave(this);
+                session = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,330 @@
+package application;
+
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Leaderboard Class - Saves the best runs of each level on disk
+ *
+ * HOW IT IS STORED
+ * - On disk: an append-only log. Each finished run adds one fixed-size record
+ *   [int crc][long level id][int moves][long time], never rewriting older ones.
+ *   The CRC lets us detect a record cut in half by a crash.
+ * - In memory: for each level, the K best runs in a small sorted array.
+ *   Inserting or reading the best is a binary search on K ints, with no disk access.
+ *
+ * On startup the log is read once from start to end to rebuild the arrays.
+ * Runs that are not in any top-K are useless, so when the log gets much bigger
+ * than the kept runs it is rewritten with only those ("compaction").
+ */
+public class Leaderboard implements AutoCloseable {
+
+    // CONSTANTS
+    public static final int DEFAULT_TOP_K = 10;
+    private static final int RECORD_SIZE = 4 + 8 + 4 + 8;   // crc + level + moves + time
+    private static final int MIN_COMPACT_RECORDS = 1024;     // Never compact tiny logs
+    private static final int COMPACT_FACTOR = 4;             // Compact when log > 4x kept runs
+
+    /**
+     * CLASS: Entry - One finished run
+     */
+    public static final class Entry {
+        private final long levelId;
+        private final int moves;
+        private final long timeMillis;
+
+        Entry(long levelId, int moves, long timeMillis) {
+            this.levelId = levelId;
+            this.moves = moves;
+            this.timeMillis = timeMillis;
+        }
+
+        public long getLevelId() { return levelId; }
+        public int getMoves() { return moves; }
+        public long getTimeMillis() { return timeMillis; }
+    }
+
+    /**
+     * CLASS: TopK - Best runs of one level, sorted by moves (fewest first)
+     * Equal moves keep the earlier run first
+     */
+    private static final class TopK {
+        final int[] moves;
+        final long[] times;
+        int size;
+
+        TopK(int k) {
+            moves = new int[k];
+            times = new long[k];
+        }
+
+        /** @return 1-based rank of the inserted run, or -1 if it is not good enough */
+        int insert(int runMoves, long time) {
+            if (size == moves.length && runMoves >= moves[size - 1]) return -1;
+
+            // BINARY SEARCH - First slot with more moves than this run
+            int low = 0, high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (moves[mid] <= runMoves) low = mid + 1; else high = mid;
+            }
+            int tail = Math.min(size, moves.length - 1) - low;  // Entries shifted down
+            System.arraycopy(moves, low, moves, low + 1, tail);
+            System.arraycopy(times, low, times, low + 1, tail);
+            moves[low] = runMoves;
+            times[low] = time;
+            if (size < moves.length) size++;
+            return low + 1;
+        }
+    }
+
+    private final Path file;
+    private final int k;
+    private final Map<Long, TopK> levels = new HashMap<>();
+    private final ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+    private final CRC32 crc = new CRC32();
+    private FileChannel log;
+    private long recordCount;   // Records currently in the log file
+    private int keptCount;      // Runs currently in some top-K
+
+    /**
+     * METHOD: openDefault() - Opens the leaderboard in the user's home folder
+     */
+    public static Leaderboard openDefault() throws IOException {
+        Path dir = Paths.get(System.getProperty("user.home"), ".revenge-maze");
+        Files.createDirectories(dir);
+        return new Leaderboard(dir.resolve("leaderboard.log"), DEFAULT_TOP_K);
+    }
+
+    /**
+     * METHOD: tryOpenDefault() - Same as openDefault(), but returns null on failure
+     *
+     * A missing leaderboard is not a reason to stop the game, so we just warn.
+     * Reads the whole log: call it from a background thread when possible (see GameAssets)
+     */
+    public static Leaderboard tryOpenDefault() {
+        try {
+            return openDefault();
+        } catch (IOException e) {
+            System.out.println("Leaderboard unavailable: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * CONSTRUCTOR - Opens (or creates) a log and rebuilds the top-K index from it
+     *
+     * @param file - Log file
+     * @param k - Number of runs kept per level
+     */
+    public Leaderboard(Path file, int k) throws IOException {
+        this.file = file;
+        this.k = k;
+        long validBytes = replay();
+        this.log = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+
+        // CUT A BROKEN TAIL - A crash in the middle of a write leaves half a record
+        if (log.size() > validBytes) {
+            log.truncate(validBytes);
+        }
+        log.position(validBytes);
+
+        if (needsCompaction()) compact();
+    }
+
+    /**
+     * METHOD: replay() - Streams the log and fills the in-memory index
+     * @return Number of bytes that belong to valid records
+     */
+    private long replay() throws IOException {
+        if (!Files.exists(file)) return 0;
+        byte[] bytes = new byte[RECORD_SIZE];
+        ByteBuffer view = ByteBuffer.wrap(bytes);
+        long valid = 0;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file), 64 * 1024)) {
+            while (true) {
+                readFully(in, bytes);
+                int storedCrc = view.getInt(0);
+                crc.reset();
+                crc.update(bytes, 4, RECORD_SIZE - 4);
+                if ((int) crc.getValue() != storedCrc) break;  // Corrupted - ignore the rest
+                index(view.getLong(4), view.getInt(12), view.getLong(16));
+                recordCount++;
+                valid += RECORD_SIZE;
+            }
+        } catch (EOFException e) {
+            // Normal end of the log (or a record cut in half)
+        }
+        return valid;
+    }
+
+    private static void readFully(InputStream in, byte[] bytes) throws IOException {
+        int read = 0;
+        while (read < bytes.length) {
+            int n = in.read(bytes, read, bytes.length - read);
+            if (n < 0) throw new EOFException();
+            read += n;
+        }
+    }
+
+    private int index(long levelId, int moves, long time) {
+        TopK top = levels.get(levelId);
+        if (top == null) {
+            top = new TopK(k);
+            levels.put(levelId, top);
+        }
+        int before = top.size;
+        int rank = top.insert(moves, time);
+        keptCount += top.size - before;
+        return rank;
+    }
+
+    /**
+     * METHOD: record() - Saves a finished run
+     *
+     * @param levelId - Level the run was played on (see Maze.getLevelId())
+     * @param moves - Number of moves needed
+     * @return 1-based rank of this run on the level, or -1 if it is not in the top K.
+     *         Rank 1 means a new record: fewer moves than every earlier run of the level
+     *         (a run that only ties the record ranks after it)
+     */
+    public synchronized int record(long levelId, int moves) throws IOException {
+        long time = System.currentTimeMillis();
+        int rank = index(levelId, moves, time);
+        if (rank < 0) return rank;  // Would be thrown away by the next compaction anyway
+
+        // APPEND TO THE LOG
+        record.clear();
+        record.putInt(0).putLong(levelId).putInt(moves).putLong(time);
+        crc.reset();
+        crc.update(record.array(), 4, RECORD_SIZE - 4);
+        record.putInt(0, (int) crc.getValue());
+        record.flip();
+        while (record.hasRemaining()) {
+            log.write(record);
+        }
+        recordCount++;
+
+        if (needsCompaction()) {
+            try {
+                compact();
+            } catch (IOException e) {
+                // The run itself is saved - only the cleanup failed, it is tried again later
+                System.out.println("Leaderboard compaction failed: " + e.getMessage());
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * METHOD: top() - Best runs of a level, fewest moves first
+     */
+    public synchronized List<Entry> top(long levelId) {
+        TopK top = levels.get(levelId);
+        if (top == null) return Collections.emptyList();
+        List<Entry> entries = new ArrayList<>(top.size);
+        for (int i = 0; i < top.size; i++) {
+            entries.add(new Entry(levelId, top.moves[i], top.times[i]));
+        }
+        return entries;
+    }
+
+    /**
+     * METHOD: best() - Fewest moves ever needed on a level
+     * @return The record, or -1 if the level was never finished
+     */
+    public synchronized int best(long levelId) {
+        TopK top = levels.get(levelId);
+        return top == null || top.size == 0 ? -1 : top.moves[0];
+    }
+
+    private boolean needsCompaction() {
+        return recordCount > MIN_COMPACT_RECORDS && recordCount > (long) COMPACT_FACTOR * keptCount;
+    }
+
+    /**
+     * METHOD: compact() - Rewrites the log with only the runs still in a top-K
+     *
+     * The new log is written next to the old one, then moved over it in one step,
+     * so a crash during compaction leaves either the old or the new file, never half.
+     * If the move fails, the old log stays in use and keeps every run
+     */
+    public synchronized void compact() throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        ByteBuffer out = ByteBuffer.allocate(64 * 1024);
+        long written = 0;
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (Map.Entry<Long, TopK> level : levels.entrySet()) {
+                TopK top = level.getValue();
+                for (int i = 0; i < top.size; i++) {
+                    if (out.remaining() < RECORD_SIZE) {
+                        out.flip();
+                        while (out.hasRemaining()) channel.write(out);
+                        out.clear();
+                    }
+                    int start = out.position();
+                    out.putInt(0).putLong(level.getKey()).putInt(top.moves[i]).putLong(top.times[i]);
+                    crc.reset();
+                    crc.update(out.array(), start + 4, RECORD_SIZE - 4);
+                    out.putInt(start, (int) crc.getValue());
+                    written++;
+                }
+            }
+            out.flip();
+            while (out.hasRemaining()) channel.write(out);
+            channel.force(true);
+        }
+
+        // REPLACE THE LOG - Some systems refuse to replace a file that is still open
+        log.close();
+        try {
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            // Keep appending to the old log, which still holds every run
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException ignored) {
+                // Overwritten by the next compaction anyway
+            }
+            reopenLog();
+            throw e;
+        }
+        reopenLog();
+        recordCount = written;
+    }
+
+    private void reopenLog() throws IOException {
+        log = FileChannel.open(file, StandardOpenOption.WRITE);
+        log.position(log.size());
+    }
+
+    /**
+     * METHOD: close() - Flushes and closes the log
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        log.force(false);
+        log.close();
+    }
+}
@@ -1,37 +1,88 @@
 package application;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressIndicator;
+import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 
 public class Main extends Application {
     @Override
     public void start(Stage primaryStage) {
-        // CREATE THE GAME CONTROLLER
-        // GameController contains both the game logic AND the visual display
-        // This is different from strict MVC - it's a combined View-Controller
-        GameController controller = new GameController();
+        StartupReport report = new StartupReport();
         
-        Scene scene = new Scene(controller, 2000, 2000);
+        // SPLASH SCREEN FIRST
+        // A few labels are cheap to show: the window appears right away,
+        // while the real game is loaded in the background
+        Label title = new Label("Revenge Maze");
+        title.setStyle("-fx-font-size: 32px; -fx-font-weight: bold;");
+        VBox splash = new VBox(20, title, new ProgressIndicator(), new Label("Loading the office..."));
+        splash.setStyle("-fx-alignment: center; -fx-background-color: white;");
         
-        scene.getStylesheets().add(getClass().getResource("style.css").toExternalForm());
+        Scene scene = new Scene(splash, 2000, 2000);
         
         primaryStage.setTitle("Revenge Maze Game");  
         primaryStage.setScene(scene);                 
+        primaryStage.show();
+        markNextFrame(scene, report, "First frame (splash)", null);
+        
+        // BACKGROUND LOADING
+        // Level, leaderboard and mini-game data load in parallel on other threads.
+        // When the game part is ready, we come back to the JavaFX thread to build the view.
+        GameAssets assets = GameAssets.loadAsync(getParameters().getNamed(), report);
+        assets.whenReady(() -> Platform.runLater(() -> showGame(scene, assets, report)));
+    }
+    
+    /**
+     * METHOD: showGame() - Replaces the splash with the game (JavaFX thread)
+     * 
+     * The game view and its stylesheet are only built now, when they are first needed
+     */
+    private void showGame(Scene scene, GameAssets assets, StartupReport report) {
+        // CREATE THE GAME CONTROLLER
+        // GameController contains both the game logic AND the visual display
+        // This is different from strict MVC - it's a combined View-Controller
+        GameController controller = assets.createController();
+        
+        scene.getStylesheets().add(getClass().getResource("style.css").toExternalForm());
+        scene.setRoot(controller);
+        report.mark("Game view built");
         
         // CRITICAL FOCUS SETUP
-        // EXPLANATION: Lambda ensures focus after window shows
-        // Common JavaFX pitfall: requesting focus before stage is shown doesn't work
+        // The window is already shown, so focus can be requested right away
         // The controller needs "focus" to receive keyboard input
-        primaryStage.setOnShown(e -> controller.requestGameFocus());
+        controller.requestGameFocus();
         
-        primaryStage.show();
+        // FIRST FRAME OF THE GAME - Then the startup is over
+        markNextFrame(scene, report, "First game frame", () -> {
+            if (StartupReport.isEnabled()) report.print();
+        });
         
         // HELPFUL CONSOLE MESSAGES
         System.out.println("Use arrow keys or WASD to move!");
         System.out.println("Press R to reset");
     }
  
+    /**
+     * METHOD: markNextFrame() - Records in the report when the next frame is drawn
+     * 
+     * A pulse listener runs once JavaFX has laid out the scene for the next frame,
+     * it removes itself so it only runs once
+     */
+    private static void markNextFrame(Scene scene, StartupReport report, String name, Runnable then) {
+        Runnable listener = new Runnable() {
+            @Override
+            public void run() {
+                scene.removePostLayoutPulseListener(this);
+                report.mark(name);
+                if (then != null) then.run();
+            }
+        };
+        scene.addPostLayoutPulseListener(listener);
+    }
+ 
     public static void main(String[] args) {
         launch(args);
     }
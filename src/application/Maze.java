@@ -23,6 +23,7 @@ public class Maze {
 	private int width, height;    // Dimensions of the maze
 	private int startX, startY;   // Coordinates of the starting position
 	private int endX, endY;       // Coordinates of the goal position
+	private long levelId;         // Identifies this layout (used by the Leaderboard)
 	
 	/**
      * CONSTRUCTOR - Creates a new maze when Maze object is created
@@ -70,7 +71,23 @@ public class Maze {
 		    {1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1}
 		};
 
-        
+		initialize();
+	}
+	
+	/**
+     * CONSTRUCTOR - Creates a maze from any layout (for example a generated floor)
+     * 
+     * @param layout - Rows of cells (EMPTY, WALL, START, END), with one START and one END
+     */
+	public Maze(int[][] layout) {
+		this.maze = layout;
+		initialize();
+	}
+	
+	/**
+     * METHOD: initialize() - Work shared by both constructors, once the layout is set
+     */
+	private void initialize() {
         // CALCULATE DIMENSIONS
         // .length gives us the number of elements in an array
 		this.height = maze.length;        // Number of rows
@@ -79,6 +96,27 @@ public class Maze {
 		// FIND SPECIAL POSITIONS
         // We need to know where START and END are located for game logic
 		findSpecialPosition();
+		
+		// COMPUTE THE LEVEL ID
+		computeLevelId();
+	}
+	
+	/**
+     * METHOD: computeLevelId() - Hashes the layout into a number
+     * 
+     * Two mazes with exactly the same cells get the same id, so results saved
+     * for a level stay valid across game restarts (FNV-1a 64-bit hash)
+     */
+	private void computeLevelId() {
+		long hash = 0xcbf29ce484222325L;
+		hash = (hash ^ width) * 0x100000001b3L;
+		hash = (hash ^ height) * 0x100000001b3L;
+		for (int[] row : maze) {
+			for (int cell : row) {
+				hash = (hash ^ cell) * 0x100000001b3L;
+			}
+		}
+		levelId = hash;
 	}
 	
 	/**
@@ -167,6 +205,18 @@ public class Maze {
 	public int getStartY() {
         return startY; 
     }
+    
+	public int getEndX() {
+        return endX; 
+    }
+    
+	public int getEndY() {
+        return endY; 
+    }
+    
+	public long getLevelId() {
+        return levelId; 
+    }
 	
     /**
      * METHOD: getCellValue() - Gets the type of cell at specific coordinates
@@ -0,0 +1,121 @@
+package application;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * MazeGenerator Class - Builds a random floor from a seed
+ *
+ * The same seed and floor number always give the same maze, so a floor never
+ * has to be saved: it can be rebuilt (or found in the FloorCache) at any time.
+ *
+ * Algorithm: "recursive backtracker" (depth-first search)
+ * - Rooms are the cells with odd coordinates, everything else starts as wall
+ * - From the current room, knock down the wall to a random unvisited neighbour
+ * - When stuck, go back to the previous room
+ * - The goal is placed on the room farthest from the start
+ */
+public class MazeGenerator {
+
+    public static final int DEFAULT_SIZE = 29;   // Largest odd size that fits the 30x30 view
+
+    private static final int[] DX = { 0, 0, -1, 1 };
+    private static final int[] DY = { -1, 1, 0, 0 };
+
+    /**
+     * METHOD: generate() - Builds a floor of the default size
+     */
+    public static Maze generate(long seed, int floor) {
+        return generate(seed, floor, DEFAULT_SIZE, DEFAULT_SIZE);
+    }
+
+    /**
+     * METHOD: generate() - Builds a floor
+     *
+     * @param seed - Run seed (one per game)
+     * @param floor - Floor number, each floor of a run gets a different maze
+     * @param width - Columns, at least 5 (an even size leaves a double wall on that side)
+     * @param height - Rows, at least 5
+     */
+    public static Maze generate(long seed, int floor, int width, int height) {
+        if (width < 5 || height < 5) {
+            throw new IllegalArgumentException("Maze must be at least 5x5");
+        }
+        Random random = new Random(seed * 0x9E3779B97F4A7C15L + floor);
+
+        int[][] cells = new int[height][width];
+        for (int[] row : cells) {
+            Arrays.fill(row, Maze.WALL);
+        }
+
+        // DEPTH-FIRST CARVING - Explicit stack instead of recursion (no stack overflow)
+        int roomsX = (width - 1) / 2;
+        int roomsY = (height - 1) / 2;
+        int[] stack = new int[roomsX * roomsY];
+        int top = 0;
+        stack[top++] = 0;                  // Room (0,0) = cell (1,1)
+        cells[1][1] = Maze.EMPTY;
+        int[] options = new int[4];
+        while (top > 0) {
+            int room = stack[top - 1];
+            int rx = room % roomsX, ry = room / roomsX;
+
+            int count = 0;
+            for (int d = 0; d < 4; d++) {
+                int nx = rx + DX[d], ny = ry + DY[d];
+                if (nx >= 0 && nx < roomsX && ny >= 0 && ny < roomsY
+                        && cells[2 * ny + 1][2 * nx + 1] == Maze.WALL) {
+                    options[count++] = d;
+                }
+            }
+            if (count == 0) {
+                top--;                     // Dead end - backtrack
+                continue;
+            }
+            int d = options[random.nextInt(count)];
+            int nx = rx + DX[d], ny = ry + DY[d];
+            cells[2 * ry + 1 + DY[d]][2 * rx + 1 + DX[d]] = Maze.EMPTY;  // Wall between rooms
+            cells[2 * ny + 1][2 * nx + 1] = Maze.EMPTY;
+            stack[top++] = ny * roomsX + nx;
+        }
+
+        // START AND GOAL
+        cells[1][1] = Maze.START;
+        int[] distance = distances(cells, 1, 1);
+        int far = 0;
+        for (int i = 0; i < distance.length; i++) {
+            if (distance[i] > distance[far]) far = i;
+        }
+        cells[far / width][far % width] = Maze.END;
+        return new Maze(cells);
+    }
+
+    /**
+     * METHOD: distances() - Steps from one cell to every other cell (breadth-first search)
+     *
+     * @return One value per cell (index y * width + x), -1 for walls and unreachable cells
+     */
+    static int[] distances(int[][] cells, int fromX, int fromY) {
+        int height = cells.length, width = cells[0].length;
+        int[] distance = new int[width * height];
+        Arrays.fill(distance, -1);
+        int[] queue = new int[width * height];
+        int head = 0, tail = 0;
+        queue[tail++] = fromY * width + fromX;
+        distance[fromY * width + fromX] = 0;
+        while (head < tail) {
+            int cell = queue[head++];
+            int x = cell % width, y = cell / width;
+            for (int d = 0; d < 4; d++) {
+                int nx = x + DX[d], ny = y + DY[d];
+                if (nx < 0 || nx >= width || ny < 0 || ny >= height) continue;
+                int next = ny * width + nx;
+                if (cells[ny][nx] != Maze.WALL && distance[next] < 0) {
+                    distance[next] = distance[cell] + 1;
+                    queue[tail++] = next;
+                }
+            }
+        }
+        return distance;
+    }
+}
@@ -29,6 +29,8 @@ public class MazeView extends VBox {
     private GraphicsContext gc;     // Drawing context (like a paintbrush)
     private Label statusLabel;      // Game messages (welcome, victory, etc.)
     private Label movesLabel;       // Move counter display
+    private int bestMoves = -1;     // Level record from the leaderboard (-1 = none yet)
+    private boolean newRecord;      // True if the finished run beat the level record
     
     /**
      * CONSTRUCTOR - Sets up the visual components
@@ -79,6 +81,16 @@ public class MazeView extends VBox {
      * - View reads that data and converts it to visual representation
      */
     public void render(GameModel model) {
+        render(model, 0);
+    }
+    
+    /**
+     * METHOD: render() - Same as above, for a multiplayer game
+     * 
+     * @param model - The GameModel containing current game state
+     * @param localPlayer - Id of the player using this window (drawn in blue, others in orange)
+     */
+    public void render(GameModel model, int localPlayer) {
         
         // CLEAR PREVIOUS FRAME
         gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
@@ -120,10 +132,20 @@ public class MazeView extends VBox {
             }
         }
         
+        // DRAW THE OTHER PLAYERS (multiplayer only)
+        // Same circle as below, in orange
+        gc.setFill(Color.ORANGE);
+        for (int id = 0; id < model.getPlayerCount(); id++) {
+            if (id == localPlayer || !model.isPlayerActive(id)) continue;  // Gone players are not drawn
+            Player other = model.getPlayer(id);
+            gc.fillOval(other.getX() * CELL_SIZE + 3, other.getY() * CELL_SIZE + 3, CELL_SIZE - 6, CELL_SIZE - 6);
+        }
+        if (localPlayer < 0 || localPlayer >= model.getPlayerCount()) return;  // Not joined yet
+        
         // DRAW THE PLAYER
         // Draw player as blue circle
         // Offset and size reduction centers circle in cell
-        Player player = model.getPlayer();
+        Player player = model.getPlayer(localPlayer);
         gc.setFill(Color.BLUE);  
         
         // Calculate player's pixel position
@@ -135,15 +157,25 @@ public class MazeView extends VBox {
         gc.fillOval(px + 3, py + 3, CELL_SIZE - 6, CELL_SIZE - 6);
         
         // UPDATE TEXT LABELS
-        // Show current move count
-        movesLabel.setText("Moves: " + player.getMoves());
+        // Show current move count, and the level record if there is one
+        String best = bestMoves >= 0 ? "   Best: " + bestMoves : "";
+        movesLabel.setText("Moves: " + player.getMoves() + best);
         
         // CHECK FOR VICTORY
-        if (model.isGameWon()) {
+        if (model.isGameWon() && model.getWinner() != localPlayer) {
+            // Someone else reached the goal first
+            statusLabel.setText("Player " + (model.getWinner() + 1) + " reached the goal first!");
+            statusLabel.setStyle("-fx-font-size: 16px; -fx-text-fill: darkorange;");
+        } else if (model.isGameWon()) {
             // Update status message for victory
-            statusLabel.setText("🎉 You Won! Moves: " + player.getMoves());
+            String record = newRecord ? " (New record!)" : "";
+            statusLabel.setText("🎉 You Won! Moves: " + player.getMoves() + record);
             // Make victory message more prominent
             statusLabel.setStyle("-fx-font-size: 16px; -fx-text-fill: green;");
+        } else {
+            // Game reset, or a new multiplayer round - back to the normal message
+            statusLabel.setText("Welcome to Maze Game!");
+            statusLabel.setStyle("");
         }
         
         // This render method is called every time something changes:
@@ -153,6 +185,24 @@ public class MazeView extends VBox {
         // This ensures the display always matches the current game state
     }
     
+    /**
+     * METHOD: setBestMoves() - Sets the level record shown next to the move counter
+     * 
+     * @param bestMoves - Fewest moves saved for this level, or -1 if none
+     */
+    public void setBestMoves(int bestMoves) {
+        this.bestMoves = bestMoves;
+    }
+    
+    /**
+     * METHOD: setNewRecord() - Whether the victory message says "New record!"
+     * 
+     * @param newRecord - True only if the run took rank 1 in the leaderboard
+     */
+    public void setNewRecord(boolean newRecord) {
+        this.newRecord = newRecord;
+    }
+    
     // This class does NOT:
     // - handle keyboard input (that's the Controller's job)
     // - decide if moves are valid (that's the Model's job)
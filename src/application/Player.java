@@ -66,6 +66,18 @@ public class Player {
         // as if we just created a new Player object
 	}
 	
+    /**
+     * METHOD: restore() - Sets position and move count without counting a move
+     * 
+     * Only used to mirror the state sent by a multiplayer server
+     * (see GameModel.syncPlayer), normal moves must go through moveTo()
+     */
+	public void restore(int x, int y, int moves) {
+		this.x = x;
+		this.y = y;
+		this.moves = moves;
+	}
+	
     // GETTER METHODS - Provide read-only access to private data
     // These follow the "encapsulation" principle
     // Other classes can read player data but can't change it directly
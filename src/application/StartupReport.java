@@ -0,0 +1,95 @@
+package application;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+
+/**
+ * StartupReport Class - Measures how long each step of the game's startup takes
+ *
+ * Steps can run on any thread, so the report shows for each one when it ended
+ * (time since the JVM started) and how long it took by itself. Steps loaded in
+ * parallel overlap, which is exactly what we want to see.
+ *
+ * Printed to the console when the game is started with -Dmaze.startupReport=true
+ * (./run.sh --report)
+ */
+public class StartupReport {
+
+    private static final class Phase {
+        final String name;
+        final long endNanos;
+        final long durationNanos;   // -1 for simple milestones
+
+        Phase(String name, long endNanos, long durationNanos) {
+            this.name = name;
+            this.endNanos = endNanos;
+            this.durationNanos = durationNanos;
+        }
+    }
+
+    private final long originNanos;           // System.nanoTime() at JVM start (estimated)
+    private final List<Phase> phases = new ArrayList<>();
+
+    /**
+     * CONSTRUCTOR - Starts a report, counting from the start of the JVM process
+     */
+    public StartupReport() {
+        long now = System.nanoTime();
+        // nanoTime has no fixed origin, so convert "how long ago the process started"
+        Optional<Instant> processStart = ProcessHandle.current().info().startInstant();
+        long sinceStart = processStart.map(start -> Duration.between(start, Instant.now()).toNanos()).orElse(0L);
+        this.originNanos = now - Math.max(0, sinceStart);
+        mark("JVM and JavaFX launched");
+    }
+
+    /**
+     * METHOD: isEnabled() - True if the report should be printed
+     */
+    public static boolean isEnabled() {
+        return Boolean.getBoolean("maze.startupReport");
+    }
+
+    /**
+     * METHOD: mark() - Records that a milestone was just reached
+     */
+    public synchronized void mark(String name) {
+        phases.add(new Phase(name, System.nanoTime(), -1));
+    }
+
+    /**
+     * METHOD: time() - Runs a step and records how long it took
+     *
+     * @param name - Name shown in the report
+     * @param step - The work to do
+     * @return What the step returned
+     */
+    public <T> T time(String name, Callable<T> step) throws Exception {
+        long start = System.nanoTime();
+        try {
+            return step.call();
+        } finally {
+            long end = System.nanoTime();
+            synchronized (this) {
+                phases.add(new Phase(name, end, end - start));
+            }
+        }
+    }
+
+    /**
+     * METHOD: print() - Writes the report to the console, in order of completion
+     */
+    public synchronized void print() {
+        List<Phase> sorted = new ArrayList<>(phases);
+        sorted.sort((a, b) -> Long.compare(a.endNanos, b.endNanos));
+
+        System.out.println("Startup report (ms since JVM start, [own duration]):");
+        for (Phase phase : sorted) {
+            String duration = phase.durationNanos < 0 ? "" : String.format("[%7.1f]", phase.durationNanos / 1e6);
+            System.out.println(String.format("  %8.1f %-9s  %s", (phase.endNanos - originNanos) / 1e6, duration, phase.name));
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package application;
+
+import java.util.Random;
+
+/**
+ * SudokuGenerator Class - Creates new Mini Sudoku puzzles with a unique solution
+ *
+ * How a puzzle is made:
+ * 1. Fill an empty grid with a random complete solution
+ * 2. Remove cells one by one in random order
+ * 3. Put a cell back if removing it allows a second solution
+ * 4. Stop once the difficulty's clue count is reached
+ *
+ * One generator is NOT thread-safe: give each thread its own instance
+ */
+public class SudokuGenerator {
+
+    /**
+     * ENUM: Difficulty - How many clues stay on the grid
+     */
+    public enum Difficulty {
+        EASY(40), MEDIUM(32), HARD(26);
+
+        private final int clues;
+
+        Difficulty(int clues) {
+            this.clues = clues;
+        }
+
+        public int getClues() {
+            return clues;
+        }
+    }
+
+    private final Random random;
+    private final SudokuSolver randomSolver;   // Builds varied full grids
+    private final SudokuSolver checker;        // Deterministic uniqueness check
+
+    /**
+     * CONSTRUCTOR - Generator with a time-based random seed
+     */
+    public SudokuGenerator() {
+        this(new Random());
+    }
+
+    /**
+     * CONSTRUCTOR - Generator with a given source of randomness
+     *
+     * @param random - Use new Random(seed) to get the same puzzles every time
+     */
+    public SudokuGenerator(Random random) {
+        this.random = random;
+        this.randomSolver = new SudokuSolver(random);
+        this.checker = new SudokuSolver();
+    }
+
+    /**
+     * METHOD: generate() - Builds a new puzzle
+     *
+     * @param difficulty - Target number of clues
+     * @return A puzzle with exactly one solution
+     *
+     * Some random grids cannot go down to the target without losing uniqueness,
+     * in that case the puzzle keeps a few more clues than asked
+     */
+    public SudokuPuzzle generate(Difficulty difficulty) {
+        int[] solution = randomSolver.solve(new int[SudokuSolver.CELLS]);
+        int[] puzzle = solution.clone();
+
+        // RANDOM REMOVAL ORDER
+        int[] order = new int[SudokuSolver.CELLS];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        for (int i = order.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = order[i];
+            order[i] = order[j];
+            order[j] = tmp;
+        }
+
+        int clues = SudokuSolver.CELLS;
+        for (int i = 0; i < order.length && clues > difficulty.getClues(); i++) {
+            int cell = order[i];
+            int digit = puzzle[cell];
+            puzzle[cell] = 0;
+            if (checker.hasUniqueSolution(puzzle)) {
+                clues--;
+            } else {
+                puzzle[cell] = digit;  // Needed for uniqueness - put it back
+            }
+        }
+        return new SudokuPuzzle(puzzle, solution);
+    }
+}
@@ -0,0 +1,122 @@
+package application;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * SudokuPool Class - Keeps a few ready-made puzzles for the elevator ride
+ *
+ * Generating a puzzle takes a few milliseconds, which is too slow to do on the
+ * JavaFX thread while the elevator scene opens. Instead a background thread
+ * fills a small queue, and the game just takes the next puzzle from it.
+ *
+ * - Nothing here ever blocks the caller, so it is safe on the JavaFX thread
+ * - next() hands out a ready puzzle, or a promise of the one being generated
+ * - As soon as a puzzle is taken, the background thread makes a new one
+ */
+public class SudokuPool {
+
+    private static final int DEFAULT_CAPACITY = 3;
+
+    private final BlockingQueue<SudokuPuzzle> ready;
+    private final SudokuGenerator.Difficulty difficulty;
+    private final ConcurrentLinkedQueue<CompletableFuture<SudokuPuzzle>> waiting = new ConcurrentLinkedQueue<>();
+    private final Thread worker;
+
+    /**
+     * CONSTRUCTOR - Starts filling a pool of default size
+     */
+    public SudokuPool(SudokuGenerator.Difficulty difficulty) {
+        this(difficulty, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * CONSTRUCTOR - Starts filling a pool
+     *
+     * @param difficulty - Difficulty of every puzzle in this pool
+     * @param capacity - How many puzzles are kept ready
+     */
+    public SudokuPool(SudokuGenerator.Difficulty difficulty, int capacity) {
+        this.difficulty = difficulty;
+        this.ready = new ArrayBlockingQueue<>(capacity);
+
+        // BACKGROUND THREAD
+        // put() waits while the pool is full, so the thread sleeps between rides.
+        // Daemon = it does not keep the application alive when the window closes.
+        this.worker = new Thread(this::fill, "sudoku-pool");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    private void fill() {
+        SudokuGenerator generator = new SudokuGenerator();  // Owned by this thread only
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                SudokuPuzzle puzzle = generator.generate(difficulty);
+                if (!handToWaiting(puzzle)) ready.put(puzzle);
+            }
+        } catch (InterruptedException e) {
+            // shutdown() was called - just stop
+        } finally {
+            // Nobody will generate the puzzles these callers wait for
+            CompletableFuture<SudokuPuzzle> promise;
+            while ((promise = waiting.poll()) != null) promise.cancel(false);
+        }
+    }
+
+    /** Gives a puzzle to the oldest caller of next() still waiting, if there is one */
+    private boolean handToWaiting(SudokuPuzzle puzzle) {
+        CompletableFuture<SudokuPuzzle> promise;
+        while ((promise = waiting.poll()) != null) {
+            if (promise.complete(puzzle)) return true;   // false = next() already completed it
+        }
+        return false;
+    }
+
+    /**
+     * METHOD: next() - Returns the next puzzle without waiting
+     *
+     * @return A future that is already complete if a puzzle was ready. If the pool is
+     *         empty (several puzzles taken in a row), it completes on the background
+     *         thread once the next puzzle is generated: use Platform.runLater() there
+     *         to touch the UI.
+     */
+    public CompletableFuture<SudokuPuzzle> next() {
+        SudokuPuzzle puzzle = ready.poll();
+        if (puzzle != null) return CompletableFuture.completedFuture(puzzle);
+
+        CompletableFuture<SudokuPuzzle> promise = new CompletableFuture<>();
+        if (!worker.isAlive()) {
+            promise.cancel(false);   // Pool shut down and empty
+            return promise;
+        }
+        waiting.add(promise);
+        // A puzzle may have been queued between the two steps above - take it then
+        puzzle = ready.poll();
+        if (puzzle != null && !promise.complete(puzzle)) ready.offer(puzzle);
+        return promise;
+    }
+
+    /**
+     * METHOD: poll() - Returns the next puzzle, or null if none is ready yet
+     */
+    public SudokuPuzzle poll() {
+        return ready.poll();
+    }
+
+    /**
+     * METHOD: available() - Number of puzzles ready right now
+     */
+    public int available() {
+        return ready.size();
+    }
+
+    /**
+     * METHOD: shutdown() - Stops the background thread
+     */
+    public void shutdown() {
+        worker.interrupt();
+    }
+}
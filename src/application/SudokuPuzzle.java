@@ -0,0 +1,66 @@
+package application;
+
+/**
+ * SudokuPuzzle Class - One Mini Sudoku challenge and its answer
+ *
+ * This is a "Model" class in MVC pattern
+ * - It stores the given digits shown to the player
+ * - It stores the unique solution used to check the player's answers
+ * - It never changes after creation, so it can be passed between threads safely
+ */
+public class SudokuPuzzle {
+
+    private final int[] givens;     // 81 cells, 0 = empty cell the player must fill
+    private final int[] solution;   // 81 cells, the only valid completed grid
+
+    /**
+     * CONSTRUCTOR - Stores copies of the grids so nobody can change them later
+     *
+     * @param givens - Starting grid (0 for empty)
+     * @param solution - Completed grid
+     */
+    public SudokuPuzzle(int[] givens, int[] solution) {
+        this.givens = givens.clone();
+        this.solution = solution.clone();
+    }
+
+    /**
+     * METHOD: getGiven() - Digit shown at the start, or 0 if the cell is empty
+     */
+    public int getGiven(int row, int col) {
+        return givens[row * SudokuSolver.SIZE + col];
+    }
+
+    /**
+     * METHOD: getSolution() - Correct digit for a cell
+     */
+    public int getSolution(int row, int col) {
+        return solution[row * SudokuSolver.SIZE + col];
+    }
+
+    /**
+     * METHOD: isCorrect() - Checks a digit entered by the player
+     */
+    public boolean isCorrect(int row, int col, int digit) {
+        return getSolution(row, col) == digit;
+    }
+
+    /**
+     * METHOD: getClueCount() - Number of digits given at the start
+     * @return Fewer clues means a harder puzzle
+     */
+    public int getClueCount() {
+        int count = 0;
+        for (int digit : givens) {
+            if (digit != 0) count++;
+        }
+        return count;
+    }
+
+    /**
+     * METHOD: getGivens() - Copy of the starting grid
+     */
+    public int[] getGivens() {
+        return givens.clone();
+    }
+}
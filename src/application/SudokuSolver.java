@@ -0,0 +1,254 @@
+package application;
+
+import java.util.Random;
+
+/**
+ * SudokuSolver Class - Solves and counts solutions of 9x9 Sudoku grids
+ *
+ * This is a "Model" helper for the Mini Sudoku elevator challenge
+ * - It keeps one bitmask per row, column and 3x3 box (bit d-1 = digit d is used)
+ * - It fills forced cells first (naked and hidden singles)
+ * - It only guesses when nothing is forced, always on the cell with the fewest candidates
+ *
+ * Grids are int[81] arrays in row order, 0 meaning "empty cell"
+ */
+public class SudokuSolver {
+
+    // CONSTANTS - Grid geometry
+    public static final int SIZE = 9;                // 9 rows, 9 columns, 9 digits
+    public static final int CELLS = SIZE * SIZE;     // 81 cells
+    private static final int ALL_DIGITS = 0x1FF;     // Bits 0..8 set = digits 1..9
+
+    // SEARCH STATE LAYOUT
+    // The whole search state is ONE int array so a branch is a single clone():
+    // [0..80] cell values, then 9 row masks, 9 column masks and 9 box masks
+    private static final int ROW_MASKS = CELLS;
+    private static final int COL_MASKS = CELLS + SIZE;
+    private static final int BOX_MASKS = CELLS + 2 * SIZE;
+    private static final int STATE_LENGTH = CELLS + 3 * SIZE;
+
+    // LOOKUP TABLES - Computed once, shared by every solver
+    private static final int[] ROW_OF = new int[CELLS];
+    private static final int[] COL_OF = new int[CELLS];
+    private static final int[] BOX_OF = new int[CELLS];
+    private static final int[][] UNITS = new int[3 * SIZE][SIZE];  // 9 rows, 9 columns, 9 boxes
+
+    static {
+        for (int cell = 0; cell < CELLS; cell++) {
+            int row = cell / SIZE;
+            int col = cell % SIZE;
+            int box = (row / 3) * 3 + col / 3;
+            ROW_OF[cell] = row;
+            COL_OF[cell] = col;
+            BOX_OF[cell] = box;
+            UNITS[row][col] = cell;
+            UNITS[SIZE + col][row] = cell;
+            UNITS[2 * SIZE + box][(row % 3) * 3 + col % 3] = cell;
+        }
+    }
+
+    // INSTANCE VARIABLES
+    private final Random random;   // null = try digits in order, otherwise shuffle them
+    private int limit;             // Stop searching after this many solutions
+    private int solutionCount;     // Solutions found by the current search
+    private int[] firstSolution;   // First complete grid found by the current search
+
+    /**
+     * CONSTRUCTOR - Creates a deterministic solver
+     */
+    public SudokuSolver() {
+        this(null);
+    }
+
+    /**
+     * CONSTRUCTOR - Creates a solver that tries candidate digits in random order
+     *
+     * @param random - Source of randomness, used by the generator to build varied grids
+     */
+    public SudokuSolver(Random random) {
+        this.random = random;
+    }
+
+    /**
+     * METHOD: solve() - Finds one solution of a grid
+     *
+     * @param grid - 81 cells, 0 for empty
+     * @return A new completed grid, or null if the grid has no solution
+     */
+    public int[] solve(int[] grid) {
+        run(grid, 1);
+        return firstSolution;
+    }
+
+    /**
+     * METHOD: countSolutions() - Counts solutions, stopping early at a limit
+     *
+     * @param grid - 81 cells, 0 for empty
+     * @param limit - Maximum number of solutions to look for
+     * @return Number of solutions found (never more than limit)
+     */
+    public int countSolutions(int[] grid, int limit) {
+        run(grid, limit);
+        return solutionCount;
+    }
+
+    /**
+     * METHOD: hasUniqueSolution() - True if the grid has exactly one solution
+     *
+     * Only needs to search until a second solution shows up
+     */
+    public boolean hasUniqueSolution(int[] grid) {
+        return countSolutions(grid, 2) == 1;
+    }
+
+    // PRIVATE SEARCH METHODS
+
+    private void run(int[] grid, int limit) {
+        if (grid.length != CELLS) {
+            throw new IllegalArgumentException("Sudoku grid must have " + CELLS + " cells");
+        }
+        this.limit = limit;
+        this.solutionCount = 0;
+        this.firstSolution = null;
+
+        // LOAD THE GIVENS - A duplicate digit in a unit means no solution at all
+        int[] state = new int[STATE_LENGTH];
+        for (int cell = 0; cell < CELLS; cell++) {
+            int digit = grid[cell];
+            if (digit == 0) continue;
+            if (digit < 1 || digit > SIZE || (candidates(state, cell) & bit(digit)) == 0) {
+                return;
+            }
+            place(state, cell, digit);
+        }
+        search(state);
+    }
+
+    private void search(int[] state) {
+        if (!propagate(state)) return;  // Contradiction - dead branch
+
+        // PICK THE MOST CONSTRAINED EMPTY CELL (fewest candidates)
+        int bestCell = -1;
+        int bestCount = SIZE + 1;
+        for (int cell = 0; cell < CELLS && bestCount > 2; cell++) {
+            if (state[cell] != 0) continue;
+            int count = Integer.bitCount(candidates(state, cell));
+            if (count < bestCount) {
+                bestCount = count;
+                bestCell = cell;
+            }
+        }
+
+        // NO EMPTY CELL LEFT - The grid is solved
+        if (bestCell < 0) {
+            if (solutionCount++ == 0) {
+                firstSolution = new int[CELLS];
+                System.arraycopy(state, 0, firstSolution, 0, CELLS);
+            }
+            return;
+        }
+
+        // BRANCH - Try each candidate on a copy of the state
+        int[] digits = digitsOf(candidates(state, bestCell));
+        for (int digit : digits) {
+            if (solutionCount >= limit) return;
+            int[] branch = state.clone();
+            place(branch, bestCell, digit);
+            search(branch);
+        }
+    }
+
+    /**
+     * METHOD: propagate() - Fills every forced cell until nothing changes
+     *
+     * Naked single: a cell with only one possible digit
+     * Hidden single: a digit with only one possible cell in a row, column or box
+     *
+     * @return false if a contradiction was found (a cell or a digit with no place left)
+     */
+    private boolean propagate(int[] state) {
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+
+            // NAKED SINGLES
+            for (int cell = 0; cell < CELLS; cell++) {
+                if (state[cell] != 0) continue;
+                int cand = candidates(state, cell);
+                if (cand == 0) return false;
+                if ((cand & (cand - 1)) == 0) {   // Exactly one bit set
+                    place(state, cell, Integer.numberOfTrailingZeros(cand) + 1);
+                    changed = true;
+                }
+            }
+
+            // HIDDEN SINGLES
+            // For each unit, "once" collects digits seen at least once, "twice" at least twice
+            for (int[] unit : UNITS) {
+                int placed = 0, once = 0, twice = 0;
+                for (int cell : unit) {
+                    if (state[cell] != 0) {
+                        placed |= bit(state[cell]);
+                    } else {
+                        int cand = candidates(state, cell);
+                        twice |= once & cand;
+                        once |= cand;
+                    }
+                }
+                if ((once | placed) != ALL_DIGITS) return false;  // Some digit has nowhere to go
+
+                int singles = once & ~twice & ~placed;
+                while (singles != 0) {
+                    int digitBit = singles & -singles;
+                    singles &= singles - 1;
+                    for (int cell : unit) {
+                        if (state[cell] == 0 && (candidates(state, cell) & digitBit) != 0) {
+                            place(state, cell, Integer.numberOfTrailingZeros(digitBit) + 1);
+                            changed = true;
+                            break;
+                        }
+                    }
+                    // If the cell was taken by another single of this unit, the next
+                    // naked single pass reports the contradiction
+                }
+            }
+        }
+        return true;
+    }
+
+    private int[] digitsOf(int mask) {
+        int[] digits = new int[Integer.bitCount(mask)];
+        for (int i = 0; mask != 0; i++) {
+            digits[i] = Integer.numberOfTrailingZeros(mask) + 1;
+            mask &= mask - 1;
+        }
+        if (random != null) {
+            // Fisher-Yates shuffle
+            for (int i = digits.length - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int tmp = digits[i];
+                digits[i] = digits[j];
+                digits[j] = tmp;
+            }
+        }
+        return digits;
+    }
+
+    private static int candidates(int[] state, int cell) {
+        return ALL_DIGITS & ~(state[ROW_MASKS + ROW_OF[cell]]
+                            | state[COL_MASKS + COL_OF[cell]]
+                            | state[BOX_MASKS + BOX_OF[cell]]);
+    }
+
+    private static void place(int[] state, int cell, int digit) {
+        int b = bit(digit);
+        state[cell] = digit;
+        state[ROW_MASKS + ROW_OF[cell]] |= b;
+        state[COL_MASKS + COL_OF[cell]] |= b;
+        state[BOX_MASKS + BOX_OF[cell]] |= b;
+    }
+
+    private static int bit(int digit) {
+        return 1 << (digit - 1);
+    }
+}
@@ -0,0 +1,303 @@
+package application;
+
+import java.util.Random;
+
+/**
+ * TicTacToeAI Class - Computer opponent for the elevator Tic-Tac-Toe challenge
+ *
+ * How it chooses a move:
+ * - Minimax with alpha-beta pruning (in "negamax" form: a score that is good for
+ *   one player is the same score, negated, for the other)
+ * - A transposition table remembers positions already searched. The 8 rotations and
+ *   mirrors of a board are the same position, so all of them share ONE entry:
+ *   the board is stored in its "canonical" form (the smallest of its 8 versions)
+ * - Iterative deepening: search 1 move ahead, then 2, then 3... until the time
+ *   budget runs out, and play the best move of the last finished search.
+ *   On 3x3 the whole game is solved instantly, on 5x5 it stops in time.
+ *
+ * One AI is NOT thread-safe and only plays boards of the variant it was made for
+ */
+public class TicTacToeAI {
+
+    /**
+     * ENUM: Difficulty - How far the AI looks and how often it makes a mistake
+     */
+    public enum Difficulty {
+        EASY(2, 0.35), MEDIUM(4, 0.10), HARD(Integer.MAX_VALUE, 0.0);
+
+        private final int maxDepth;
+        private final double mistakeRate;
+
+        Difficulty(int maxDepth, double mistakeRate) {
+            this.maxDepth = maxDepth;
+            this.mistakeRate = mistakeRate;
+        }
+    }
+
+    // SCORES
+    private static final int WIN = 10_000;               // Minus the moves needed, to prefer fast wins
+    private static final int WIN_THRESHOLD = WIN - 100;
+    private static final int[] LINE_WEIGHT = { 0, 1, 8, 64, 512, 4096 };  // Marks in an open line
+
+    // TRANSPOSITION TABLE - Open addressing on two parallel arrays
+    // data packs: score (16 bits) | depth (8 bits) | bound (2 bits) | canonical best move (6 bits)
+    private static final int TABLE_BITS = 18;              // 262,144 entries, about 3 MB
+    private static final int EXACT = 0, LOWER = 1, UPPER = 2;
+    private static final int NO_MOVE = 63;
+
+    public static final long DEFAULT_BUDGET_NANOS = 8_000_000L;   // Half a 60 FPS frame
+
+    private final TicTacToeBoard.Geometry geometry;
+    private final Difficulty difficulty;
+    private final long budgetNanos;
+    private final Random random;
+    private final long[] tableKeys = new long[1 << TABLE_BITS];
+    private final int[] tableData = new int[1 << TABLE_BITS];
+    private final int[][] moveBuffers;             // One move list per ply, reused (no garbage)
+
+    // SEARCH STATE
+    private long deadline;
+    private long nodes;
+    private boolean outOfTime;
+    private int lastDepth;
+    private int canonicalSymmetry;                 // Set by canonical()
+
+    /**
+     * CONSTRUCTOR - AI for a board variant with the default time budget
+     */
+    public TicTacToeAI(int size, int winLength, Difficulty difficulty) {
+        this(size, winLength, difficulty, DEFAULT_BUDGET_NANOS, new Random());
+    }
+
+    /**
+     * CONSTRUCTOR - AI with every setting
+     *
+     * @param budgetNanos - Maximum thinking time per move
+     * @param random - Used for the mistakes of easier difficulties
+     */
+    public TicTacToeAI(int size, int winLength, Difficulty difficulty, long budgetNanos, Random random) {
+        this.geometry = TicTacToeBoard.Geometry.of(size, winLength);
+        this.difficulty = difficulty;
+        this.budgetNanos = budgetNanos;
+        this.random = random;
+        this.moveBuffers = new int[geometry.cells + 1][geometry.cells + 1];
+    }
+
+    /**
+     * METHOD: chooseMove() - Picks the cell to play for the current player
+     *
+     * @param board - The current game, not modified
+     * @return Cell index (row * size + col), or -1 if the game is over
+     */
+    public int chooseMove(TicTacToeBoard board) {
+        if (board.getGeometry() != geometry) {
+            throw new IllegalArgumentException("This AI plays " + geometry.size + "x" + geometry.size + " boards only");
+        }
+        if (board.isGameOver()) return -1;
+
+        long packed = board.getPacked();
+        int x = (int) packed, o = (int) (packed >>> 32);
+        boolean xToMove = board.getCurrentPlayer() == TicTacToeBoard.X;
+        int me = xToMove ? x : o, them = xToMove ? o : x;
+        int free = geometry.fullMask & ~(x | o);
+
+        // EASIER LEVELS - Sometimes just play anywhere
+        if (random.nextDouble() < difficulty.mistakeRate) {
+            return nthBit(free, random.nextInt(Integer.bitCount(free)));
+        }
+
+        // ITERATIVE DEEPENING
+        deadline = System.nanoTime() + budgetNanos;
+        outOfTime = false;
+        nodes = 0;
+        int empties = Integer.bitCount(free);
+        int maxDepth = Math.min(empties, difficulty.maxDepth);
+        int bestMove = geometry.centreOrder[0];
+        if ((free & (1 << bestMove)) == 0) bestMove = Integer.numberOfTrailingZeros(free);
+
+        for (int depth = 1; depth <= maxDepth; depth++) {
+            int[] result = searchRoot(me, them, depth);
+            if (outOfTime) break;                       // Unfinished search: keep the previous move
+            bestMove = result[0];
+            lastDepth = depth;
+            if (Math.abs(result[1]) >= WIN_THRESHOLD) break;  // Forced win or loss found
+        }
+        return bestMove;
+    }
+
+    /**
+     * METHOD: getLastDepth() - Depth of the last finished search (for tuning)
+     */
+    public int getLastDepth() {
+        return lastDepth;
+    }
+
+    // SEARCH
+
+    private int[] searchRoot(int me, int them, int depth) {
+        int alpha = -WIN - 1, beta = WIN + 1;
+        int best = -1, bestScore = -WIN - 1;
+        int[] moves = orderedMoves(me, them, probeMove(me, them), 0);
+        for (int move : moves) {
+            if (move < 0) break;
+            int score = -negamax(them, me | (1 << move), depth - 1, 1, -beta, -alpha, move);
+            if (outOfTime) break;
+            if (score > bestScore) {
+                bestScore = score;
+                best = move;
+            }
+            if (score > alpha) alpha = score;
+        }
+        return new int[] { best, bestScore };
+    }
+
+    /**
+     * METHOD: negamax() - Score of the position for the player to move
+     *
+     * @param me - Bitboard of the player to move
+     * @param them - Bitboard of the player who just played lastMove
+     * @param ply - Moves played since the root (to prefer faster wins)
+     */
+    private int negamax(int me, int them, int depth, int ply, int alpha, int beta, int lastMove) {
+        // TIME CHECK - Reading the clock is slow, so only every 256 nodes
+        if ((++nodes & 255) == 0 && System.nanoTime() > deadline) {
+            outOfTime = true;
+            return 0;
+        }
+
+        // TERMINAL POSITIONS
+        for (int line : geometry.linesThrough[lastMove]) {
+            if ((them & line) == line) return -(WIN - ply);   // Opponent just won
+        }
+        int free = geometry.fullMask & ~(me | them);
+        if (free == 0) return 0;                             // Draw
+        if (depth == 0) return evaluate(me, them);
+
+        // TRANSPOSITION TABLE LOOKUP
+        long key = canonical(me, them);
+        int symmetryUsed = canonicalSymmetry;
+        int slot = slot(key);
+        int ttMove = -1;
+        int alphaStart = alpha;
+        if (tableKeys[slot] == key) {
+            int data = tableData[slot];
+            int storedScore = fromTable((short) (data >>> 16), ply);
+            int storedDepth = (data >>> 8) & 0xFF;
+            int bound = (data >>> 6) & 3;
+            int canonicalMove = data & 63;
+            if (canonicalMove != NO_MOVE) ttMove = geometry.inverse[symmetryUsed][canonicalMove];
+            if (storedDepth >= depth) {
+                if (bound == EXACT) return storedScore;
+                if (bound == LOWER && storedScore >= beta) return storedScore;
+                if (bound == UPPER && storedScore <= alpha) return storedScore;
+            }
+        }
+
+        // TRY EVERY MOVE, BEST CANDIDATES FIRST
+        int best = -WIN - 1, bestMove = -1;
+        for (int move : orderedMoves(me, them, ttMove, ply)) {
+            if (move < 0) break;
+            int score = -negamax(them, me | (1 << move), depth - 1, ply + 1, -beta, -alpha, move);
+            if (outOfTime) return 0;
+            if (score > best) {
+                best = score;
+                bestMove = move;
+            }
+            if (score > alpha) alpha = score;
+            if (alpha >= beta) break;   // Cut-off: the opponent will never allow this line
+        }
+
+        // TRANSPOSITION TABLE STORE - Best move saved in the canonical orientation
+        int bound = best <= alphaStart ? UPPER : best >= beta ? LOWER : EXACT;
+        tableKeys[slot] = key;
+        tableData[slot] = ((toTable(best, ply) & 0xFFFF) << 16) | (Math.min(depth, 255) << 8)
+                        | (bound << 6) | geometry.symmetry[symmetryUsed][bestMove];
+        return best;
+    }
+
+    /**
+     * METHOD: evaluate() - Guess of a position when the search stops before the end
+     *
+     * Each line still open for only one player is worth more the more marks it has
+     */
+    private int evaluate(int me, int them) {
+        int score = 0;
+        for (int line : geometry.lines) {
+            int mine = me & line, theirs = them & line;
+            if (theirs == 0) {
+                score += LINE_WEIGHT[Integer.bitCount(mine)];
+            } else if (mine == 0) {
+                score -= LINE_WEIGHT[Integer.bitCount(theirs)];
+            }
+        }
+        return Math.max(-WIN_THRESHOLD + 1, Math.min(WIN_THRESHOLD - 1, score));
+    }
+
+    // HELPERS
+
+    /**
+     * METHOD: canonical() - Smallest of the 8 symmetric versions of the position
+     *
+     * @return The key, the symmetry that produced it is left in canonicalSymmetry
+     *
+     * The key gets its top bit set, so it can never be 0 like an empty table slot
+     */
+    private long canonical(int me, int them) {
+        long bestKey = Long.MAX_VALUE;
+        int bestSymmetry = 0;
+        for (int s = 0; s < TicTacToeBoard.Geometry.SYMMETRIES; s++) {
+            long key = ((long) geometry.transform(them, s) << 32) | geometry.transform(me, s);
+            if (key < bestKey) {
+                bestKey = key;
+                bestSymmetry = s;
+            }
+        }
+        canonicalSymmetry = bestSymmetry;
+        return bestKey | Long.MIN_VALUE;
+    }
+
+    private int probeMove(int me, int them) {
+        long key = canonical(me, them);
+        int slot = slot(key);
+        if (tableKeys[slot] != key) return -1;
+        int canonicalMove = tableData[slot] & 63;
+        return canonicalMove == NO_MOVE ? -1 : geometry.inverse[canonicalSymmetry][canonicalMove];
+    }
+
+    /** Free cells, the table's move first, then from the centre outwards (-1 terminated) */
+    private int[] orderedMoves(int me, int them, int first, int ply) {
+        int free = geometry.fullMask & ~(me | them);
+        int[] moves = moveBuffers[ply];
+        int n = 0;
+        if (first >= 0 && (free & (1 << first)) != 0) moves[n++] = first;
+        for (int cell : geometry.centreOrder) {
+            if (cell != first && (free & (1 << cell)) != 0) moves[n++] = cell;
+        }
+        moves[n] = -1;
+        return moves;
+    }
+
+    private static int slot(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h >>> (64 - TABLE_BITS));
+    }
+
+    // Win scores depend on the distance from the root, the table stores them
+    // relative to the position instead so they stay valid at another ply
+    private static int toTable(int score, int ply) {
+        if (score >= WIN_THRESHOLD) return score + ply;
+        if (score <= -WIN_THRESHOLD) return score - ply;
+        return score;
+    }
+
+    private static int fromTable(int score, int ply) {
+        if (score >= WIN_THRESHOLD) return score - ply;
+        if (score <= -WIN_THRESHOLD) return score + ply;
+        return score;
+    }
+
+    private static int nthBit(int bits, int n) {
+        for (int i = 0; i < n; i++) bits &= bits - 1;
+        return Integer.numberOfTrailingZeros(bits);
+    }
+}
@@ -0,0 +1,250 @@
+package application;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * TicTacToeBoard Class - Board of the elevator Tic-Tac-Toe challenge
+ *
+ * This is a "Model" class in MVC pattern
+ * - Works for the classic 3x3 game and for bigger "k in a row" variants (up to 5x5)
+ * - X always plays first
+ *
+ * HOW THE BOARD IS STORED
+ * Each player is a bitboard: bit (row * size + col) is set if the player has that cell.
+ * Both fit in ONE long (X in the low 32 bits, O in the high 32 bits), which makes
+ * boards cheap to copy and to use as keys in the AI's transposition table.
+ */
+public class TicTacToeBoard {
+
+    // CELL VALUES
+    public static final int EMPTY = 0;
+    public static final int X = 1;
+    public static final int O = 2;
+
+    public static final int MAX_SIZE = 5;     // 25 cells still fit in 32 bits
+
+    private final Geometry geometry;
+    private int x;                            // X's cells
+    private int o;                            // O's cells
+
+    /**
+     * CONSTRUCTOR - Classic 3x3 board, 3 in a row wins
+     */
+    public TicTacToeBoard() {
+        this(3, 3);
+    }
+
+    /**
+     * CONSTRUCTOR - Board for a variant
+     *
+     * @param size - Rows and columns (3 to 5)
+     * @param winLength - Marks in a row needed to win (3 to size)
+     */
+    public TicTacToeBoard(int size, int winLength) {
+        this.geometry = Geometry.of(size, winLength);
+    }
+
+    // GAME ACTIONS
+
+    /**
+     * METHOD: play() - Puts the current player's mark on a cell
+     *
+     * @throws IllegalStateException if the cell is taken or the game is over
+     */
+    public void play(int row, int col) {
+        int cell = row * geometry.size + col;
+        if (row < 0 || col < 0 || row >= geometry.size || col >= geometry.size) {
+            throw new IllegalArgumentException("Cell outside the board: " + row + "," + col);
+        }
+        if (((x | o) & (1 << cell)) != 0 || isGameOver()) {
+            throw new IllegalStateException("Cannot play on " + row + "," + col);
+        }
+        if (getCurrentPlayer() == X) {
+            x |= 1 << cell;
+        } else {
+            o |= 1 << cell;
+        }
+    }
+
+    /**
+     * METHOD: reset() - Empties the board
+     */
+    public void reset() {
+        x = 0;
+        o = 0;
+    }
+
+    // GETTERS
+
+    public int getSize() { return geometry.size; }
+    public int getWinLength() { return geometry.winLength; }
+
+    /**
+     * METHOD: getCell() - EMPTY, X or O
+     */
+    public int getCell(int row, int col) {
+        int bit = 1 << (row * geometry.size + col);
+        if ((x & bit) != 0) return X;
+        if ((o & bit) != 0) return O;
+        return EMPTY;
+    }
+
+    /**
+     * METHOD: getCurrentPlayer() - Whose turn it is (X if both have played as often)
+     */
+    public int getCurrentPlayer() {
+        return Integer.bitCount(x) == Integer.bitCount(o) ? X : O;
+    }
+
+    /**
+     * METHOD: getWinner() - X or O if someone has k in a row, EMPTY otherwise
+     */
+    public int getWinner() {
+        if (geometry.hasLine(x)) return X;
+        if (geometry.hasLine(o)) return O;
+        return EMPTY;
+    }
+
+    public boolean isFull() {
+        return (x | o) == geometry.fullMask;
+    }
+
+    public boolean isGameOver() {
+        return getWinner() != EMPTY || isFull();
+    }
+
+    /**
+     * METHOD: getPacked() - Both bitboards in one long (X low, O high)
+     */
+    public long getPacked() {
+        return ((long) o << 32) | (x & 0xFFFFFFFFL);
+    }
+
+    Geometry getGeometry() {
+        return geometry;
+    }
+
+    /**
+     * CLASS: Geometry - Everything that depends only on (size, winLength)
+     *
+     * Computed once per variant and shared by all boards and AIs of that variant:
+     * - every winning line as a bitmask, and the lines going through each cell
+     * - the 8 symmetries of the square (4 rotations, each possibly mirrored)
+     * - lookup tables to apply a symmetry to a whole bitboard 5 bits at a time
+     */
+    static final class Geometry {
+        private static final Map<Integer, Geometry> CACHE = new HashMap<>();
+        static final int SYMMETRIES = 8;
+        private static final int CHUNK = 5;   // Bits transformed per table lookup
+
+        final int size, winLength, cells, fullMask;
+        final int[] lines;                    // One mask per winning line
+        final int[][] linesThrough;           // For each cell, the lines containing it
+        final int[][] symmetry;               // [s][cell] -> cell after symmetry s
+        final int[][] inverse;                // [s][cell] -> cell before symmetry s
+        final int[] centreOrder;              // Cells, from the centre outwards
+        private final int[][][] chunkTables;  // [s][chunk][5-bit value] -> transformed bits
+
+        static synchronized Geometry of(int size, int winLength) {
+            if (size < 3 || size > MAX_SIZE || winLength < 3 || winLength > size) {
+                throw new IllegalArgumentException("Unsupported board " + size + "x" + size + ", " + winLength + " in a row");
+            }
+            return CACHE.computeIfAbsent(size * 8 + winLength, k -> new Geometry(size, winLength));
+        }
+
+        private Geometry(int size, int winLength) {
+            this.size = size;
+            this.winLength = winLength;
+            this.cells = size * size;
+            this.fullMask = (1 << cells) - 1;
+
+            // WINNING LINES - Horizontal, vertical and both diagonals, every start position
+            int[] dRow = { 0, 1, 1, 1 };
+            int[] dCol = { 1, 0, 1, -1 };
+            int[] found = new int[4 * cells];
+            int count = 0;
+            for (int row = 0; row < size; row++) {
+                for (int col = 0; col < size; col++) {
+                    for (int d = 0; d < 4; d++) {
+                        int endRow = row + dRow[d] * (winLength - 1);
+                        int endCol = col + dCol[d] * (winLength - 1);
+                        if (endRow < 0 || endRow >= size || endCol < 0 || endCol >= size) continue;
+                        int mask = 0;
+                        for (int i = 0; i < winLength; i++) {
+                            mask |= 1 << ((row + dRow[d] * i) * size + col + dCol[d] * i);
+                        }
+                        found[count++] = mask;
+                    }
+                }
+            }
+            lines = Arrays.copyOf(found, count);
+            linesThrough = new int[cells][];
+            for (int cell = 0; cell < cells; cell++) {
+                int n = 0;
+                for (int line : lines) if ((line & (1 << cell)) != 0) n++;
+                linesThrough[cell] = new int[n];
+                n = 0;
+                for (int line : lines) if ((line & (1 << cell)) != 0) linesThrough[cell][n++] = line;
+            }
+
+            // SYMMETRIES - Rotate 0/90/180/270 degrees, then optionally mirror
+            symmetry = new int[SYMMETRIES][cells];
+            inverse = new int[SYMMETRIES][cells];
+            for (int s = 0; s < SYMMETRIES; s++) {
+                for (int row = 0; row < size; row++) {
+                    for (int col = 0; col < size; col++) {
+                        int r = row, c = col;
+                        for (int turn = 0; turn < s % 4; turn++) {
+                            int tmp = r;
+                            r = c;
+                            c = size - 1 - tmp;
+                        }
+                        if (s >= 4) c = size - 1 - c;
+                        symmetry[s][row * size + col] = r * size + c;
+                        inverse[s][r * size + c] = row * size + col;
+                    }
+                }
+            }
+            int chunks = (cells + CHUNK - 1) / CHUNK;
+            chunkTables = new int[SYMMETRIES][chunks][1 << CHUNK];
+            for (int s = 0; s < SYMMETRIES; s++) {
+                for (int chunk = 0; chunk < chunks; chunk++) {
+                    for (int value = 0; value < (1 << CHUNK); value++) {
+                        int out = 0;
+                        for (int i = 0; i < CHUNK; i++) {
+                            int cell = chunk * CHUNK + i;
+                            if ((value & (1 << i)) != 0 && cell < cells) out |= 1 << symmetry[s][cell];
+                        }
+                        chunkTables[s][chunk][value] = out;
+                    }
+                }
+            }
+
+            // MOVE ORDER - Central cells belong to more lines, so they are tried first
+            Integer[] order = new Integer[cells];
+            for (int i = 0; i < cells; i++) order[i] = i;
+            Arrays.sort(order, (a, b) -> linesThrough[b].length - linesThrough[a].length);
+            centreOrder = new int[cells];
+            for (int i = 0; i < cells; i++) centreOrder[i] = order[i];
+        }
+
+        boolean hasLine(int bits) {
+            for (int line : lines) {
+                if ((bits & line) == line) return true;
+            }
+            return false;
+        }
+
+        /** Applies symmetry s to a bitboard, one table lookup per 5 cells */
+        int transform(int bits, int s) {
+            int[][] tables = chunkTables[s];
+            int out = 0;
+            for (int chunk = 0; bits != 0; chunk++, bits >>>= CHUNK) {
+                out |= tables[chunk][bits & ((1 << CHUNK) - 1)];
+            }
+            return out;
+        }
+    }
+}
@@ -0,0 +1,392 @@
+package application;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * WordDictionary Class - Word list for the Mini Wordle elevator challenge
+ *
+ * This is a "Model" class in MVC pattern
+ * - It checks if a guess is a real word
+ * - It narrows down the words still possible after each guess
+ * - It suggests the most useful next guess for the hint button
+ *
+ * HOW THE DATA IS STORED
+ * - Each 5-letter word is packed into one int (5 bits per letter, first letter highest),
+ *   so the sorted int[] is also in alphabetical order and binary search works on it
+ * - A set of words is a bitset: one bit per word, 64 words per long
+ * - For each (position, letter) we keep the bitset of words with that letter there,
+ *   and for each (count, letter) the bitset of words containing it at least that many times
+ * - Filtering by Wordle feedback is then a few bitset ANDs instead of comparing strings
+ */
+public class WordDictionary {
+
+    // CONSTANTS
+    public static final int WORD_LENGTH = 5;
+    public static final int PATTERNS = 243;    // 3^5 possible feedbacks
+    public static final int GREY = 0, YELLOW = 1, GREEN = 2;
+    private static final int LETTERS = 26;
+    private static final String DEFAULT_RESOURCE = "/assets/words/words.txt";
+
+    // PACKED WORDS AND INDEXES
+    private final int[] codes;                // Sorted packed words
+    private final int blocks;                 // Number of longs in one bitset
+    private final long[][] atPosition;        // [position * 26 + letter] -> word bitset
+    private final long[][] atLeast;           // [(count - 1) * 26 + letter] -> word bitset
+
+    // PRECOMPUTED HINT DATA
+    private final double[] openingEntropy;    // Information of each word as the first guess
+    private final int bestOpening;            // Index of the best first guess
+
+    /**
+     * METHOD: load() - Reads the default word list shipped with the game
+     *
+     * Reading and indexing takes a few milliseconds: call it from a background
+     * thread while the maze is being played, not when the elevator opens
+     */
+    public static WordDictionary load() throws IOException {
+        InputStream in = WordDictionary.class.getResourceAsStream(DEFAULT_RESOURCE);
+        if (in == null) {
+            throw new IOException("Word list not found: " + DEFAULT_RESOURCE);
+        }
+        List<String> words = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (!line.isEmpty()) words.add(line);
+            }
+        }
+        return new WordDictionary(words);
+    }
+
+    /**
+     * CONSTRUCTOR - Builds the packed array, the bitsets and the hint data
+     *
+     * @param words - 5-letter words (case is ignored, duplicates are removed)
+     */
+    public WordDictionary(Collection<String> words) {
+        // PACK AND SORT
+        int[] packed = new int[words.size()];
+        int n = 0;
+        for (String word : words) {
+            packed[n++] = encode(word);
+        }
+        Arrays.sort(packed);
+        int unique = 0;
+        for (int i = 0; i < n; i++) {
+            if (unique == 0 || packed[i] != packed[unique - 1]) packed[unique++] = packed[i];
+        }
+        this.codes = Arrays.copyOf(packed, unique);
+        this.blocks = (codes.length + 63) / 64;
+
+        // BUILD THE BITSETS
+        this.atPosition = new long[WORD_LENGTH * LETTERS][blocks];
+        this.atLeast = new long[WORD_LENGTH * LETTERS][blocks];
+        int[] counts = new int[LETTERS];
+        for (int w = 0; w < codes.length; w++) {
+            Arrays.fill(counts, 0);
+            long bit = 1L << w;
+            for (int p = 0; p < WORD_LENGTH; p++) {
+                int letter = letterAt(codes[w], p);
+                atPosition[p * LETTERS + letter][w >>> 6] |= bit;
+                atLeast[counts[letter]++ * LETTERS + letter][w >>> 6] |= bit;
+            }
+        }
+
+        // PRECOMPUTE FIRST-GUESS ENTROPY
+        // Done once here so the first hint of every round is instant
+        long[] all = allWords();
+        int[] buckets = new int[PATTERNS];
+        int[] allIndexes = indexesOf(all);
+        this.openingEntropy = new double[codes.length];
+        int best = 0;
+        for (int g = 0; g < codes.length; g++) {
+            openingEntropy[g] = entropy(codes[g], allIndexes, buckets);
+            if (openingEntropy[g] > openingEntropy[best]) best = g;
+        }
+        this.bestOpening = best;
+    }
+
+    // LOOKUPS
+
+    /**
+     * METHOD: size() - Number of words in the dictionary
+     */
+    public int size() {
+        return codes.length;
+    }
+
+    /**
+     * METHOD: contains() - Checks if a guess is an accepted word
+     */
+    public boolean contains(String word) {
+        if (word == null || word.length() != WORD_LENGTH) return false;
+        for (int i = 0; i < WORD_LENGTH; i++) {
+            char c = Character.toLowerCase(word.charAt(i));
+            if (c < 'a' || c > 'z') return false;
+        }
+        return indexOf(word) >= 0;
+    }
+
+    /**
+     * METHOD: wordAt() - Word stored at an index (alphabetical order)
+     */
+    public String wordAt(int index) {
+        return decode(codes[index]);
+    }
+
+    // CANDIDATE SETS
+
+    /**
+     * METHOD: allWords() - New candidate set containing every word
+     */
+    public long[] allWords() {
+        long[] set = new long[blocks];
+        Arrays.fill(set, -1L);
+        int extra = blocks * 64 - codes.length;
+        if (extra > 0) set[blocks - 1] >>>= extra;  // Clear bits past the last word
+        return set;
+    }
+
+    /**
+     * METHOD: filter() - Keeps only the words that would give this feedback
+     *
+     * @param candidates - Candidate set, updated in place
+     * @param guess - The word the player tried
+     * @param pattern - The feedback shown, as returned by feedback()
+     * @return The same candidates array, for chaining
+     *
+     * Rules turned into bitset operations:
+     * - GREEN at p: AND "letter at p"
+     * - YELLOW or GREY at p: AND NOT "letter at p"
+     * - A letter marked m times green/yellow: AND "at least m of this letter"
+     * - If that letter is also GREY somewhere: AND NOT "at least m+1" (exactly m)
+     */
+    public long[] filter(long[] candidates, String guess, int pattern) {
+        int code = encode(guess);
+        int[] marks = decodePattern(pattern);
+
+        int[] found = new int[LETTERS];        // Green/yellow marks per letter
+        boolean[] capped = new boolean[LETTERS];
+        for (int p = 0; p < WORD_LENGTH; p++) {
+            int letter = letterAt(code, p);
+            long[] here = atPosition[p * LETTERS + letter];
+            if (marks[p] == GREEN) {
+                and(candidates, here);
+            } else {
+                andNot(candidates, here);
+            }
+            if (marks[p] == GREY) {
+                capped[letter] = true;
+            } else {
+                found[letter]++;
+            }
+        }
+        for (int p = 0; p < WORD_LENGTH; p++) {
+            int letter = letterAt(code, p);
+            int m = found[letter];
+            if (m > 0) and(candidates, atLeast[(m - 1) * LETTERS + letter]);
+            if (capped[letter] && m < WORD_LENGTH) andNot(candidates, atLeast[m * LETTERS + letter]);
+        }
+        return candidates;
+    }
+
+    /**
+     * METHOD: count() - Number of words in a candidate set
+     */
+    public int count(long[] candidates) {
+        int total = 0;
+        for (long block : candidates) total += Long.bitCount(block);
+        return total;
+    }
+
+    /**
+     * METHOD: wordsOf() - Lists the words in a candidate set
+     */
+    public List<String> wordsOf(long[] candidates) {
+        List<String> result = new ArrayList<>();
+        for (int index : indexesOf(candidates)) result.add(decode(codes[index]));
+        return result;
+    }
+
+    // FEEDBACK
+
+    /**
+     * METHOD: feedback() - Colors Wordle would show for a guess
+     *
+     * @return One base-3 digit per position (GREY, YELLOW, GREEN), position 0 lowest
+     *
+     * Duplicate letters follow the usual rule: greens are counted first,
+     * then each remaining answer letter can make only one guess letter yellow
+     */
+    public static int feedback(String guess, String answer) {
+        return feedback(encode(guess), encode(answer));
+    }
+
+    private static int feedback(int guess, int answer) {
+        int used = 0;       // Answer positions already matched (bit p)
+        int greens = 0;
+        for (int p = 0; p < WORD_LENGTH; p++) {
+            if (letterAt(guess, p) == letterAt(answer, p)) {
+                greens |= 1 << p;
+                used |= 1 << p;
+            }
+        }
+        int pattern = 0;
+        for (int p = 0, weight = 1; p < WORD_LENGTH; p++, weight *= 3) {
+            if ((greens & (1 << p)) != 0) {
+                pattern += GREEN * weight;
+                continue;
+            }
+            int letter = letterAt(guess, p);
+            for (int q = 0; q < WORD_LENGTH; q++) {
+                if ((used & (1 << q)) == 0 && letterAt(answer, q) == letter) {
+                    used |= 1 << q;
+                    pattern += YELLOW * weight;
+                    break;
+                }
+            }
+        }
+        return pattern;
+    }
+
+    /**
+     * METHOD: decodePattern() - Splits a feedback into one mark per position
+     */
+    public static int[] decodePattern(int pattern) {
+        int[] marks = new int[WORD_LENGTH];
+        for (int p = 0; p < WORD_LENGTH; p++) {
+            marks[p] = pattern % 3;
+            pattern /= 3;
+        }
+        return marks;
+    }
+
+    // HINTS AND DIFFICULTY
+
+    /**
+     * METHOD: bestGuess() - Word that splits the remaining candidates the most
+     *
+     * Entropy = how many bits of information the guess is expected to give.
+     * Ties prefer a word that could still be the answer.
+     *
+     * @param candidates - Words still possible
+     * @return The suggested guess, or null if no word is possible anymore
+     */
+    public String bestGuess(long[] candidates) {
+        int[] remaining = indexesOf(candidates);
+        if (remaining.length == 0) return null;
+        if (remaining.length <= 2) return decode(codes[remaining[0]]);
+        if (remaining.length == codes.length) return decode(codes[bestOpening]);
+
+        int[] buckets = new int[PATTERNS];
+        int best = -1;
+        double bestScore = -1;
+        for (int g = 0; g < codes.length; g++) {
+            double score = entropy(codes[g], remaining, buckets);
+            if (isSet(candidates, g)) score += 1e-9;  // Tie-break: could win right away
+            if (score > bestScore) {
+                bestScore = score;
+                best = g;
+            }
+        }
+        return decode(codes[best]);
+    }
+
+    /**
+     * METHOD: openingEntropy() - Precomputed information of a word as the first guess
+     */
+    public double openingEntropy(String word) {
+        int index = indexOf(word);
+        return index < 0 ? 0 : openingEntropy[index];
+    }
+
+    /**
+     * METHOD: difficulty() - How hard an answer is to find
+     *
+     * @return Number of words left after playing the best opening guess against
+     *         this answer. 1 means the answer is found right after, bigger is harder.
+     */
+    public int difficulty(String answer) {
+        long[] left = filter(allWords(), decode(codes[bestOpening]),
+                             feedback(codes[bestOpening], encode(answer)));
+        return count(left);
+    }
+
+    // PRIVATE HELPERS
+
+    private double entropy(int guess, int[] remaining, int[] buckets) {
+        Arrays.fill(buckets, 0);
+        for (int index : remaining) {
+            buckets[feedback(guess, codes[index])]++;
+        }
+        double total = remaining.length;
+        double sum = 0;
+        for (int count : buckets) {
+            if (count > 0) sum += count * Math.log(count);
+        }
+        return (Math.log(total) - sum / total) / Math.log(2);
+    }
+
+    private int indexOf(String word) {
+        return Arrays.binarySearch(codes, encode(word));
+    }
+
+    private int[] indexesOf(long[] set) {
+        int[] result = new int[count(set)];
+        int n = 0;
+        for (int b = 0; b < set.length; b++) {
+            long block = set[b];
+            while (block != 0) {
+                result[n++] = (b << 6) + Long.numberOfTrailingZeros(block);
+                block &= block - 1;
+            }
+        }
+        return result;
+    }
+
+    private static boolean isSet(long[] set, int index) {
+        return (set[index >>> 6] & (1L << index)) != 0;
+    }
+
+    private static void and(long[] target, long[] mask) {
+        for (int i = 0; i < target.length; i++) target[i] &= mask[i];
+    }
+
+    private static void andNot(long[] target, long[] mask) {
+        for (int i = 0; i < target.length; i++) target[i] &= ~mask[i];
+    }
+
+    private static int encode(String word) {
+        if (word.length() != WORD_LENGTH) {
+            throw new IllegalArgumentException("Not a " + WORD_LENGTH + "-letter word: " + word);
+        }
+        int code = 0;
+        for (int i = 0; i < WORD_LENGTH; i++) {
+            char c = Character.toLowerCase(word.charAt(i));
+            if (c < 'a' || c > 'z') {
+                throw new IllegalArgumentException("Not a word: " + word);
+            }
+            code = (code << 5) | (c - 'a');
+        }
+        return code;
+    }
+
+    private static String decode(int code) {
+        char[] letters = new char[WORD_LENGTH];
+        for (int p = 0; p < WORD_LENGTH; p++) letters[p] = (char) ('a' + letterAt(code, p));
+        return new String(letters);
+    }
+
+    private static int letterAt(int code, int position) {
+        return (code >>> (5 * (WORD_LENGTH - 1 - position))) & 31;
+    }
+}